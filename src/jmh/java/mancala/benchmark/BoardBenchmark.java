@@ -0,0 +1,64 @@
+package mancala.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import mancala.Board;
+import mancala.PackedBoard;
+import mancala.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+  static final int[] MID_GAME_WELLS = {3, 0, 5, 6, 1, 4, 5, 4, 2, 0, 7, 3, 1, 7};
+
+  private final Player player = new Player(1);
+  private Board board;
+  private PackedBoard packedBoard;
+  private PackedBoard scratch;
+
+  @Setup
+  public void setUp() {
+    packedBoard = new PackedBoard(MID_GAME_WELLS, 1);
+    scratch = packedBoard.copy();
+    board = packedBoard.toBoard();
+  }
+
+  @Benchmark
+  public Board moveBeadFor() {
+    return board.moveBeadFor(player, 2, 3);
+  }
+
+  @Benchmark
+  public Board captureBeadsForPlayer() {
+    return board.captureBeadsForPlayer(player, 4);
+  }
+
+  @Benchmark
+  public Board claimAllPlayerWellsFor() {
+    return board.claimAllPlayerWellsFor(player);
+  }
+
+  @Benchmark
+  public int getNextBoardWellIndexFor() {
+    return board.getNextBoardWellIndexFor(player, 2);
+  }
+
+  @Benchmark
+  public int packedBoardApplyMove() {
+    scratch.copyFrom(packedBoard);
+    return scratch.applyMove(2);
+  }
+}
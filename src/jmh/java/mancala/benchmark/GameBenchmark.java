@@ -0,0 +1,36 @@
+package mancala.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import mancala.Game;
+import mancala.Game.FinishedGame;
+import mancala.player.PiratePlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+  @Param({"true", "false"})
+  private boolean animated;
+
+  @Benchmark
+  public FinishedGame pirateVersusPirate() {
+    Game game = new Game(new PiratePlayer(1), new PiratePlayer(2), animated);
+    while (!(game instanceof FinishedGame)) {
+      game = game.progress();
+    }
+    return (FinishedGame) game;
+  }
+}
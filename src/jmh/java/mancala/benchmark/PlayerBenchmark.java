@@ -0,0 +1,55 @@
+package mancala.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import mancala.Game;
+import mancala.Move;
+import mancala.Move.IllegalMoveException;
+import mancala.PackedBoard;
+import mancala.Player;
+import mancala.State.AwaitingPlayerChoice;
+import mancala.player.PiratePlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+  private PiratePlayer piratePlayer;
+  private Game startingGame;
+  private Game midGame;
+
+  @Setup
+  public void setUp() {
+    piratePlayer = new PiratePlayer(1);
+    final Player opponent = new Player(2);
+    startingGame = new Game(piratePlayer, opponent);
+    midGame =
+        new Game(
+            piratePlayer,
+            opponent,
+            new PackedBoard(BoardBenchmark.MID_GAME_WELLS, 1).toBoard(),
+            new AwaitingPlayerChoice(piratePlayer, false));
+  }
+
+  @Benchmark
+  public Move piratePlayerOpening() throws IllegalMoveException {
+    return piratePlayer.makeMove(startingGame);
+  }
+
+  @Benchmark
+  public Move piratePlayerMidGame() throws IllegalMoveException {
+    return piratePlayer.makeMove(midGame);
+  }
+}
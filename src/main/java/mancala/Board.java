@@ -6,53 +6,75 @@ import java.util.List;
 import java.util.Optional;
 import mancala.Well.HomeBase;
 import mancala.Well.PlayerWell;
+import mancala.jfr.BoardMutationEvent;
 import one.util.streamex.EntryStream;
 import one.util.streamex.IntStreamEx;
-import one.util.streamex.StreamEx;
 
 @lombok.Value
 public class Board {
   private final List<Well> wells;
 
+  @lombok.Getter(lombok.AccessLevel.NONE)
+  @lombok.EqualsAndHashCode.Exclude
+  private final int playerOneBeads;
+
+  @lombok.Getter(lombok.AccessLevel.NONE)
+  @lombok.EqualsAndHashCode.Exclude
+  private final int playerTwoBeads;
+
+  @lombok.Getter(lombok.AccessLevel.NONE)
+  @lombok.EqualsAndHashCode.Exclude
+  private final int nonEmptyWells;
+
   public Board(final List<Well> wells) {
     if (wells.size() != 14) {
       throw new IllegalArgumentException();
     }
 
     this.wells = unmodifiableList(wells);
+
+    int playerOneBeads = 0;
+    int playerTwoBeads = 0;
+    int nonEmptyWells = 0;
+    for (int i = 0; i < 14; i++) {
+      final int beads = wells.get(i).getNumberOfBeads();
+      if (i < 6) {
+        playerOneBeads += beads;
+      } else if (i > 6 && i < 13) {
+        playerTwoBeads += beads;
+      }
+      if (beads != 0) {
+        nonEmptyWells |= 1 << i;
+      }
+    }
+    this.playerOneBeads = playerOneBeads;
+    this.playerTwoBeads = playerTwoBeads;
+    this.nonEmptyWells = nonEmptyWells;
   }
 
   public int getNextBoardWellIndexFor(final Player player, final int playerWellIndex) {
-    return EntryStream.of(wells)
-        .mapKeyValuePartial(
-            (index, well) -> {
-              if (getWellFor(player, playerWellIndex) == well) {
-                return Optional.of((index + 1) % 14);
-              }
-              return Optional.empty();
-            })
-        .findFirst()
-        .orElseThrow();
+    return (getBoardWellIndexFor(player, playerWellIndex) + 1) % 14;
   }
 
   public Well getWellFor(final Player player, final int playerWellIndex) {
-    return getPlayerWells(player).get(playerWellIndex);
+    return wells.get(getBoardWellIndexFor(player, playerWellIndex));
   }
 
   public int getBoardWellIndexFor(final Player player, final int playerWellIndex) {
-    return EntryStream.of(wells)
-        .mapKeyValuePartial(
-            (index, well) -> {
-              if (player.getPlayerNumber() == 1 && index <= 6) {
-                return Optional.of(index);
-              } else if (player.getPlayerNumber() == 2 && index > 6) {
-                return Optional.of(index);
-              } else {
-                return Optional.empty();
-              }
-            })
-        .findFirst()
-        .orElseThrow();
+    if (playerWellIndex < 0 || playerWellIndex > 6) {
+      throw new IndexOutOfBoundsException(playerWellIndex);
+    }
+    return (player.getPlayerNumber() == 1 ? 0 : 7) + playerWellIndex;
+  }
+
+  /** @return a bit for every non-empty player well, well {@code i} being bit {@code i}. */
+  public int getLegalMoves(final Player player) {
+    return (nonEmptyWells >>> getBoardWellIndexFor(player, 0)) & 0x3F;
+  }
+
+  /** @return the beads left in the player's wells, not counting their home base. */
+  public int getBeadsInPlayerWells(final Player player) {
+    return player.getPlayerNumber() == 1 ? playerOneBeads : playerTwoBeads;
   }
 
   public Well getOppositeWell(final int boardWellIndex) {
@@ -71,19 +93,23 @@ public class Board {
 
   public Board moveBeadFor(
       final Player player, final int playerWellIndex, final int toBoardWellIndex) {
+    final BoardMutationEvent event = new BoardMutationEvent();
+    event.begin();
     final Well moveWell = getWellFor(player, playerWellIndex);
-    return EntryStream.of(wells)
-        .mapKeyValue(
-            (index, well) -> {
-              if (well == moveWell && index != toBoardWellIndex) {
-                return well.decrement();
-              }
-              if (well != moveWell && index == toBoardWellIndex) {
-                return well.increment();
-              }
-              return well;
-            })
-        .toListAndThen(Board::new);
+    final Board board =
+        EntryStream.of(wells)
+            .mapKeyValue(
+                (index, well) -> {
+                  if (well == moveWell && index != toBoardWellIndex) {
+                    return well.decrement();
+                  }
+                  if (well != moveWell && index == toBoardWellIndex) {
+                    return well.increment();
+                  }
+                  return well;
+                })
+            .toListAndThen(Board::new);
+    return commit(event, BoardMutationEvent.MOVE_BEAD, player, toBoardWellIndex, 1, board);
   }
 
   public List<Well> getPlayerWells(final Player player) {
@@ -107,14 +133,11 @@ public class Board {
   }
 
   public boolean allPlayerWellsEmpty(final Player player) {
-    return StreamEx.of(getPlayerWells(player)).select(PlayerWell.class).allMatch(Well::isEmpty);
+    return getBeadsInPlayerWells(player) == 0;
   }
 
   public boolean allPlayerWellsEmpty() {
-    return EntryStream.of(wells)
-        .filterKeys(index -> index != 6 && index != 13)
-        .values()
-        .allMatch(Well::isEmpty);
+    return playerOneBeads == 0 && playerTwoBeads == 0;
   }
 
   public Board captureBeadsForPlayer(final Player player, final int lastBoardWellIndexFromMove) {
@@ -123,47 +146,77 @@ public class Board {
             + wells.get(lastBoardWellIndexFromMove).getNumberOfBeads();
     final int playerHomeBaseIndex = player.getPlayerNumber() == 1 ? 6 : 13;
 
-    return EntryStream.of(wells)
-        .mapKeyValue(
-            (index, well) -> {
-              if (well instanceof PlayerWell) {
-                if (well == getOppositeWell(lastBoardWellIndexFromMove)
-                    || well == wells.get(lastBoardWellIndexFromMove)) {
-                  return new PlayerWell(0);
-                }
-              } else if (well instanceof HomeBase) {
-                if (index == playerHomeBaseIndex) {
-                  return new HomeBase(well.getNumberOfBeads() + totalCapturedBeads);
-                }
-              }
-              return well;
-            })
-        .toListAndThen(Board::new);
+    final BoardMutationEvent event = new BoardMutationEvent();
+    event.begin();
+    final Board board =
+        EntryStream.of(wells)
+            .mapKeyValue(
+                (index, well) -> {
+                  if (well instanceof PlayerWell) {
+                    if (well == getOppositeWell(lastBoardWellIndexFromMove)
+                        || well == wells.get(lastBoardWellIndexFromMove)) {
+                      return new PlayerWell(0);
+                    }
+                  } else if (well instanceof HomeBase) {
+                    if (index == playerHomeBaseIndex) {
+                      return new HomeBase(well.getNumberOfBeads() + totalCapturedBeads);
+                    }
+                  }
+                  return well;
+                })
+            .toListAndThen(Board::new);
+    return commit(
+        event,
+        BoardMutationEvent.CAPTURE,
+        player,
+        lastBoardWellIndexFromMove,
+        totalCapturedBeads,
+        board);
   }
 
   public Board claimAllPlayerWellsFor(final Player player) {
-    final int totalCapturedBeads =
-        StreamEx.of(wells)
-            .mapToInt(
-                well ->
-                    getPlayerWells(player).contains(well) && well instanceof PlayerWell
-                        ? well.getNumberOfBeads()
-                        : 0)
-            .sum();
-
-    return StreamEx.of(wells)
-        .map(
-            well -> {
-              if (getPlayerWells(player).contains(well)) {
-                if (well instanceof PlayerWell) {
-                  return new PlayerWell(0);
-                } else if (well instanceof HomeBase) {
-                  return new HomeBase(well.getNumberOfBeads() + totalCapturedBeads);
-                }
-              }
-              return well;
-            })
-        .toListAndThen(Board::new);
+    final int totalCapturedBeads = getBeadsInPlayerWells(player);
+
+    final BoardMutationEvent event = new BoardMutationEvent();
+    event.begin();
+    final Board board =
+        EntryStream.of(wells)
+            .mapKeyValue(
+                (index, well) -> {
+                  if (wellBelongsTo(player, index)) {
+                    if (well instanceof PlayerWell) {
+                      return new PlayerWell(0);
+                    } else if (well instanceof HomeBase) {
+                      return new HomeBase(well.getNumberOfBeads() + totalCapturedBeads);
+                    }
+                  }
+                  return well;
+                })
+            .toListAndThen(Board::new);
+    return commit(
+        event,
+        BoardMutationEvent.CLAIM,
+        player,
+        player.getPlayerNumber() == 1 ? 6 : 13,
+        totalCapturedBeads,
+        board);
+  }
+
+  private static Board commit(
+      final BoardMutationEvent event,
+      final String operation,
+      final Player player,
+      final int boardWellIndex,
+      final int beads,
+      final Board board) {
+    if (event.shouldCommit()) {
+      event.operation = operation;
+      event.playerNumber = player.getPlayerNumber();
+      event.boardWellIndex = boardWellIndex;
+      event.beads = beads;
+      event.commit();
+    }
+    return board;
   }
 
   @Override
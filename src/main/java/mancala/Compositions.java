@@ -0,0 +1,69 @@
+package mancala;
+
+/**
+ * Ranks compositions of a bead total into an ordered number of parts, each part possibly empty, in
+ * lexicographic order of the parts: the composition with everything in the last part ranks first,
+ * the one with everything in the first part last. Shared by {@link PositionCodec} and {@link
+ * mancala.tablebase.TablebaseIndex}.
+ */
+public final class Compositions {
+  public static final int MAX_TOTAL = Byte.MAX_VALUE;
+  public static final int MAX_PARTS = PackedBoard.SIZE;
+
+  private static final long[][] BINOMIALS = new long[MAX_TOTAL + MAX_PARTS + 1][MAX_PARTS + 1];
+
+  static {
+    for (int n = 0; n < BINOMIALS.length; n++) {
+      BINOMIALS[n][0] = 1;
+      for (int k = 1; k <= Math.min(n, MAX_PARTS); k++) {
+        BINOMIALS[n][k] = BINOMIALS[n - 1][k - 1] + (k <= n - 1 ? BINOMIALS[n - 1][k] : 0);
+      }
+    }
+  }
+
+  private Compositions() {}
+
+  public static long binomial(final int n, final int k) {
+    return k < 0 || n < k ? 0 : BINOMIALS[n][k];
+  }
+
+  /** Number of compositions of {@code total} into {@code parts} parts. */
+  public static long count(final int total, final int parts) {
+    return binomial(total + parts - 1, parts - 1);
+  }
+
+  /**
+   * Number of compositions of {@code remaining} into {@code parts} parts whose first part is below
+   * {@code first}, so the rank of a composition is the sum of this over its parts but the last.
+   */
+  public static long countBefore(final int first, final int remaining, final int parts) {
+    return count(remaining, parts) - count(remaining - first, parts);
+  }
+
+  public static long rank(final int[] parts, final int total) {
+    long rank = 0;
+    int remaining = total;
+    for (int i = 0; i < parts.length - 1; i++) {
+      rank += countBefore(parts[i], remaining, parts.length - i);
+      remaining -= parts[i];
+    }
+    return rank;
+  }
+
+  /** Fills {@code parts} with the composition of {@code total} at {@code rank}. */
+  public static void unrank(final long rank, final int total, final int[] parts) {
+    long remainingRank = rank;
+    int remaining = total;
+    for (int i = 0; i < parts.length - 1; i++) {
+      final int partsLeft = parts.length - i;
+      int part = 0;
+      while (countBefore(part + 1, remaining, partsLeft) <= remainingRank) {
+        part++;
+      }
+      remainingRank -= countBefore(part, remaining, partsLeft);
+      parts[i] = part;
+      remaining -= part;
+    }
+    parts[parts.length - 1] = remaining;
+  }
+}
@@ -4,6 +4,10 @@ import static io.vavr.Predicates.is;
 import static io.vavr.Predicates.not;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import mancala.jfr.StateTransitionEvent;
 import one.util.streamex.StreamEx;
 
 @lombok.Data
@@ -17,10 +21,14 @@ public class Game {
   }
 
   public Game(final Player player1, final Player player2) {
+    this(player1, player2, false);
+  }
+
+  public Game(final Player player1, final Player player2, final boolean animated) {
     this(
         new Player[] {player1, player2},
         Board.createStartingBoard(),
-        new State.AwaitingPlayerChoice(player1));
+        new State.AwaitingPlayerChoice(player1, animated));
   }
 
   Game(final Player[] players, final Board board, final State state) {
@@ -34,7 +42,80 @@ public class Game {
   }
 
   public Game progress() {
-    return state.progressGame(this);
+    final StateTransitionEvent event = new StateTransitionEvent();
+    event.begin();
+    final long start = System.nanoTime();
+    final Game next = state.progressGame(this);
+    GameMetrics.recordProgress(state, System.nanoTime() - start);
+    commit(event, next);
+    return next;
+  }
+
+  public CompletionStage<Game> progressAsync() {
+    final StateTransitionEvent event = new StateTransitionEvent();
+    event.begin();
+    final long start = System.nanoTime();
+    return state
+        .progressGameAsync(this)
+        .whenComplete(
+            (next, exception) -> {
+              GameMetrics.recordProgress(state, System.nanoTime() - start);
+              if (next != null) {
+                commit(event, next);
+              }
+            });
+  }
+
+  private void commit(final StateTransitionEvent event, final Game next) {
+    if (event.shouldCommit()) {
+      event.state = state.getClass().getSimpleName();
+      event.nextState =
+          next instanceof FinishedGame
+              ? FinishedGame.class.getSimpleName()
+              : next.getState().getClass().getSimpleName();
+      event.playerNumber = state.getCurrentPlayer().getPlayerNumber();
+      event.beadsInPlay =
+          next.getBoard().getBeadsInPlayerWells(players[0])
+              + next.getBoard().getBeadsInPlayerWells(players[1]);
+      event.commit();
+    }
+  }
+
+  /**
+   * Plays the game to the end without blocking. Transitions that complete straight away are run in
+   * a loop on the calling thread; the first one still waiting on a player resumes the loop on
+   * whichever thread completes it.
+   */
+  public CompletableFuture<FinishedGame> playAsync() {
+    final CompletableFuture<FinishedGame> finishedGame = new CompletableFuture<>();
+    playAsync(this, finishedGame);
+    return finishedGame;
+  }
+
+  private static void playAsync(
+      final Game game, final CompletableFuture<FinishedGame> finishedGame) {
+    Game current = game;
+    while (!(current instanceof FinishedGame)) {
+      final CompletableFuture<Game> next = current.progressAsync().toCompletableFuture();
+      if (!next.isDone()) {
+        next.whenComplete(
+            (nextGame, exception) -> {
+              if (exception != null) {
+                finishedGame.completeExceptionally(exception);
+              } else {
+                playAsync(nextGame, finishedGame);
+              }
+            });
+        return;
+      }
+      try {
+        current = next.join();
+      } catch (final CompletionException exception) {
+        finishedGame.completeExceptionally(exception.getCause());
+        return;
+      }
+    }
+    finishedGame.complete((FinishedGame) current);
   }
 
   @lombok.Value
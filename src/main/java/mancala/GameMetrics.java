@@ -0,0 +1,83 @@
+package mancala;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Engine meters, registered once on Micrometer's global registry so they cost nothing until a
+ * registry is added to it (Spring Boot does so by default). Meters tagged by {@link State} or
+ * {@link Player} class are created the first time a class is seen and cached per class, so the hot
+ * path is two {@link System#nanoTime()} calls and a record.
+ */
+public final class GameMetrics {
+  private static final MeterRegistry REGISTRY = Metrics.globalRegistry;
+
+  private static final Timer PROGRESS = Timer.builder("mancala.game.progress").register(REGISTRY);
+
+  private static final LongAdder TRANSITIONS = new LongAdder();
+
+  private static final ClassValue<Timer> STATE_PROGRESS =
+      new ClassValue<>() {
+        @Override
+        protected Timer computeValue(final Class<?> type) {
+          return Timer.builder("mancala.state.progress")
+              .tag("state", nameOf(type))
+              .register(REGISTRY);
+        }
+      };
+
+  private static final ClassValue<Timer> PLAYER_MOVES =
+      new ClassValue<>() {
+        @Override
+        protected Timer computeValue(final Class<?> type) {
+          return Timer.builder("mancala.player.move")
+              .tag("player", nameOf(type))
+              .register(REGISTRY);
+        }
+      };
+
+  private static final ClassValue<Counter> ILLEGAL_MOVES =
+      new ClassValue<>() {
+        @Override
+        protected Counter computeValue(final Class<?> type) {
+          return Counter.builder("mancala.player.illegal.moves")
+              .tag("player", nameOf(type))
+              .register(REGISTRY);
+        }
+      };
+
+  static {
+    FunctionCounter.builder("mancala.game.transitions", TRANSITIONS, LongAdder::sum)
+        .baseUnit("transitions")
+        .register(REGISTRY);
+  }
+
+  private GameMetrics() {}
+
+  static void recordProgress(final State state, final long nanos) {
+    PROGRESS.record(nanos, TimeUnit.NANOSECONDS);
+    STATE_PROGRESS.get(state.getClass()).record(nanos, TimeUnit.NANOSECONDS);
+    TRANSITIONS.increment();
+  }
+
+  static void recordMove(final Player player, final long nanos) {
+    PLAYER_MOVES.get(player.getClass()).record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  static void recordIllegalMove(final Player player) {
+    ILLEGAL_MOVES.get(player.getClass()).increment();
+  }
+
+  public static long getTransitions() {
+    return TRANSITIONS.sum();
+  }
+
+  private static String nameOf(final Class<?> type) {
+    return type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName();
+  }
+}
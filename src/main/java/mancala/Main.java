@@ -2,34 +2,55 @@ package mancala;
 
 import static io.vavr.Predicates.not;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.OptionalInt;
 import java.util.concurrent.atomic.AtomicInteger;
 import mancala.Game.FinishedGame;
+import mancala.journal.GameJournal;
+import mancala.journal.GameRecorder;
 import mancala.player.ConsolePlayer;
 import mancala.player.PiratePlayer;
+import one.util.streamex.IntStreamEx;
 import one.util.streamex.StreamEx;
 
 public class Main {
-  public static void main(final String[] args) {
+  public static void main(final String[] args) throws IOException {
     final ConsolePlayer playerOne = new ConsolePlayer(1);
     final PiratePlayer playerTwo = new PiratePlayer(2);
 
-    final Game game = new Game(playerOne, playerTwo);
+    final Game game = new Game(playerOne, playerTwo, StreamEx.of(args).has("--animated"));
+
+    final GameRecorder recorder = new GameRecorder(game);
 
     final AtomicInteger i = new AtomicInteger();
 
-    final FinishedGame finishedGame =
-        StreamEx.iterate(
-                game,
-                g -> {
-                  System.out.printf("◊› %-3d | %s%n", i.incrementAndGet(), g.getState());
-                  System.out.println(g.getBoard());
-                  return g.progress();
-                })
-            .dropWhile(not(FinishedGame.class::isInstance))
-            .limit(1)
-            .select(FinishedGame.class)
-            .findFirst()
-            .get();
+    final FinishedGame finishedGame;
+    try {
+      finishedGame =
+          StreamEx.iterate(
+                  game,
+                  g -> {
+                    System.out.printf("◊› %-3d | %s%n", i.incrementAndGet(), g.getState());
+                    System.out.println(g.getBoard());
+                    final Game next = g.progress();
+                    recorder.observe(next);
+                    return next;
+                  })
+              .dropWhile(not(FinishedGame.class::isInstance))
+              .limit(1)
+              .select(FinishedGame.class)
+              .findFirst()
+              .get();
+    } finally {
+      final OptionalInt journal =
+          IntStreamEx.range(args.length - 1).findFirst(k -> args[k].equals("--journal"));
+      if (journal.isPresent()) {
+        try (final GameJournal out = GameJournal.open(Path.of(args[journal.getAsInt() + 1]))) {
+          out.append(recorder.toRecord());
+        }
+      }
+    }
 
     System.out.println(
         finishedGame
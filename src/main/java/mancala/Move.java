@@ -6,15 +6,16 @@ public class Move {
 
   public Move(final Board board, final Player player, final int wellIndex)
       throws IllegalMoveException {
-    if (wellIndex < 0 || wellIndex > 5) {
-      throw new IllegalMoveException(wellIndex);
-    }
-    if (board.getWellFor(player, wellIndex).isEmpty()) {
+    if (!isLegal(board.getLegalMoves(player), wellIndex)) {
       throw new IllegalMoveException(wellIndex);
     }
     this.wellIndex = wellIndex;
   }
 
+  public static boolean isLegal(final int legalMoves, final int wellIndex) {
+    return wellIndex >= 0 && wellIndex <= 5 && (legalMoves & (1 << wellIndex)) != 0;
+  }
+
   @SuppressWarnings("serial")
   @lombok.Value
   @lombok.EqualsAndHashCode(callSuper = true)
@@ -0,0 +1,273 @@
+package mancala;
+
+import java.util.Arrays;
+import java.util.List;
+import mancala.Well.HomeBase;
+import mancala.Well.PlayerWell;
+import one.util.streamex.IntStreamEx;
+
+/**
+ * Mutable, allocation-free counterpart of {@link Board}. Wells are stored with the same board
+ * indexes as {@link Board#getWells()} and a whole move is sown, captured and swept in place, with
+ * the same outcome the {@link State} machine reaches bead by bead. A {@link Zobrist} hash of the
+ * wells and player to move, the same hash of the mirrored position, the bead total of each side and
+ * a bitmask of non-empty wells are kept up to date on every change.
+ */
+public final class PackedBoard {
+  public static final int SIZE = 14;
+  public static final int PLAYER_ONE_HOME_BASE = 6;
+  public static final int PLAYER_TWO_HOME_BASE = 13;
+
+  private static final int PLAYER_WELLS = 0x1FBF;
+
+  public static final int EXTRA_TURN = 1;
+  public static final int CAPTURE = 1 << 1;
+  public static final int SIDE_EMPTY = 1 << 2;
+  public static final int GAME_OVER = 1 << 3;
+
+  private final byte[] wells = new byte[SIZE];
+  private int currentPlayerNumber;
+  private long hash;
+  private long mirrorHash;
+  private int playerOneBeads;
+  private int playerTwoBeads;
+  private int nonEmptyWells;
+
+  public PackedBoard(final int[] wells, final int currentPlayerNumber) {
+    if (wells.length != SIZE || (currentPlayerNumber != 1 && currentPlayerNumber != 2)) {
+      throw new IllegalArgumentException();
+    }
+    int totalBeads = 0;
+    for (int i = 0; i < SIZE; i++) {
+      if (wells[i] < 0) {
+        throw new IllegalArgumentException();
+      }
+      totalBeads += wells[i];
+    }
+    if (totalBeads > Byte.MAX_VALUE) {
+      throw new IllegalArgumentException();
+    }
+    this.currentPlayerNumber = currentPlayerNumber;
+    this.hash = Zobrist.hash(this);
+    this.mirrorHash = hash ^ Zobrist.PLAYER_TWO_TO_MOVE;
+    for (int i = 0; i < SIZE; i++) {
+      setBeads(i, wells[i]);
+    }
+  }
+
+  private PackedBoard() {}
+
+  public static PackedBoard of(final Board board, final Player currentPlayer) {
+    return new PackedBoard(
+        board.getWells().stream().mapToInt(Well::getNumberOfBeads).toArray(),
+        currentPlayer.getPlayerNumber());
+  }
+
+  public static PackedBoard createStartingBoard() {
+    return of(Board.createStartingBoard(), new Player(1));
+  }
+
+  public Board toBoard() {
+    final List<Well> boardWells =
+        IntStreamEx.range(SIZE)
+            .<Well>mapToObj(
+                i ->
+                    i == PLAYER_ONE_HOME_BASE || i == PLAYER_TWO_HOME_BASE
+                        ? new HomeBase(wells[i])
+                        : new PlayerWell(wells[i]))
+            .toList();
+    return new Board(boardWells);
+  }
+
+  public int getCurrentPlayerNumber() {
+    return currentPlayerNumber;
+  }
+
+  public long getHash() {
+    return hash;
+  }
+
+  /**
+   * @return the {@link #getHash()} of this position seen with Player 1 to move, so a position and
+   *     its {@link Symmetry#mirror(PackedBoard)} share the same value
+   */
+  public long getCanonicalHash() {
+    return currentPlayerNumber == 1 ? hash : mirrorHash;
+  }
+
+  public int getBeads(final int boardWellIndex) {
+    return wells[boardWellIndex];
+  }
+
+  public int getBeads(final int playerNumber, final int playerWellIndex) {
+    return wells[homeBaseIndexOf(playerNumber) - 6 + playerWellIndex];
+  }
+
+  public int getHomeBaseBeads(final int playerNumber) {
+    return wells[homeBaseIndexOf(playerNumber)];
+  }
+
+  public int getBeadsInPlayerWells(final int playerNumber) {
+    return playerNumber == 1 ? playerOneBeads : playerTwoBeads;
+  }
+
+  /**
+   * @return a bit for every non-empty well of the current player, well {@code i} being bit {@code
+   *     i}.
+   */
+  public int getLegalMoves() {
+    return (nonEmptyWells >>> (homeBaseIndexOf(currentPlayerNumber) - 6)) & 0x3F;
+  }
+
+  public boolean isLegalMove(final int playerWellIndex) {
+    return Move.isLegal(getLegalMoves(), playerWellIndex);
+  }
+
+  public boolean allPlayerWellsEmpty(final int playerNumber) {
+    return getBeadsInPlayerWells(playerNumber) == 0;
+  }
+
+  public boolean isGameOver() {
+    return playerOneBeads == 0 || playerTwoBeads == 0;
+  }
+
+  /** @return the winning player number once the game is over, or {@code 0} for a draw. */
+  public int getWinningPlayerNumber() {
+    if (wells[PLAYER_ONE_HOME_BASE] > wells[PLAYER_TWO_HOME_BASE]) {
+      return 1;
+    } else if (wells[PLAYER_ONE_HOME_BASE] < wells[PLAYER_TWO_HOME_BASE]) {
+      return 2;
+    }
+    return 0;
+  }
+
+  /**
+   * Sows the current player's well, then resolves extra turns, captures and the end of the game
+   * exactly like {@link State.MakingMove} and the states following it.
+   *
+   * @return a combination of {@link #EXTRA_TURN}, {@link #CAPTURE}, {@link #SIDE_EMPTY} and {@link
+   *     #GAME_OVER}
+   */
+  public int applyMove(final int playerWellIndex) {
+    final int homeBase = homeBaseIndexOf(currentPlayerNumber);
+    final int fromIndex = homeBase - 6 + playerWellIndex;
+    final int beads = wells[fromIndex];
+    setBeads(fromIndex, 0);
+
+    final int sowing = Sowing.of(currentPlayerNumber, playerWellIndex, beads);
+    final int laps = Sowing.lapsOf(sowing);
+    if (laps > 0) {
+      for (int i = 0; i < SIZE; i++) {
+        setBeads(i, wells[i] + laps);
+      }
+    }
+    final int lastIndex = Sowing.landingIndexOf(sowing);
+    for (int i = fromIndex; i != lastIndex; ) {
+      i = i == SIZE - 1 ? 0 : i + 1;
+      setBeads(i, wells[i] + 1);
+    }
+
+    if (isGameOver()) {
+      return finish(0);
+    }
+
+    if (lastIndex == homeBase) {
+      return EXTRA_TURN;
+    }
+
+    if (lastIndex >= homeBase - 6
+        && lastIndex < homeBase
+        && wells[lastIndex] == 1
+        && wells[12 - lastIndex] != 0) {
+      setBeads(homeBase, wells[homeBase] + wells[lastIndex] + wells[12 - lastIndex]);
+      setBeads(lastIndex, 0);
+      setBeads(12 - lastIndex, 0);
+
+      if (isGameOver()) {
+        return finish(CAPTURE);
+      }
+      switchPlayer();
+      return CAPTURE;
+    }
+
+    switchPlayer();
+    return 0;
+  }
+
+  public void copyFrom(final PackedBoard other) {
+    System.arraycopy(other.wells, 0, wells, 0, SIZE);
+    currentPlayerNumber = other.currentPlayerNumber;
+    hash = other.hash;
+    mirrorHash = other.mirrorHash;
+    playerOneBeads = other.playerOneBeads;
+    playerTwoBeads = other.playerTwoBeads;
+    nonEmptyWells = other.nonEmptyWells;
+  }
+
+  public PackedBoard copy() {
+    final PackedBoard copy = new PackedBoard();
+    copy.copyFrom(this);
+    return copy;
+  }
+
+  private int finish(final int flags) {
+    final boolean strayBeads = playerOneBeads != 0 || playerTwoBeads != 0;
+    setBeads(PLAYER_ONE_HOME_BASE, wells[PLAYER_ONE_HOME_BASE] + playerOneBeads);
+    setBeads(PLAYER_TWO_HOME_BASE, wells[PLAYER_TWO_HOME_BASE] + playerTwoBeads);
+    for (int remaining = nonEmptyWells & PLAYER_WELLS; remaining != 0; remaining &= remaining - 1) {
+      setBeads(Integer.numberOfTrailingZeros(remaining), 0);
+    }
+    return flags | GAME_OVER | (strayBeads ? SIDE_EMPTY : 0);
+  }
+
+  private void setBeads(final int boardWellIndex, final int beads) {
+    final int previousBeads = wells[boardWellIndex];
+    hash ^= Zobrist.keyFor(boardWellIndex, previousBeads) ^ Zobrist.keyFor(boardWellIndex, beads);
+    final int mirrorIndex = Symmetry.mirrorIndex(boardWellIndex);
+    mirrorHash ^= Zobrist.keyFor(mirrorIndex, previousBeads) ^ Zobrist.keyFor(mirrorIndex, beads);
+    wells[boardWellIndex] = (byte) beads;
+
+    if (boardWellIndex < PLAYER_ONE_HOME_BASE) {
+      playerOneBeads += beads - previousBeads;
+    } else if (boardWellIndex > PLAYER_ONE_HOME_BASE && boardWellIndex < PLAYER_TWO_HOME_BASE) {
+      playerTwoBeads += beads - previousBeads;
+    }
+    if (beads == 0) {
+      nonEmptyWells &= ~(1 << boardWellIndex);
+    } else {
+      nonEmptyWells |= 1 << boardWellIndex;
+    }
+  }
+
+  private void switchPlayer() {
+    currentPlayerNumber = 3 - currentPlayerNumber;
+    hash ^= Zobrist.PLAYER_TWO_TO_MOVE;
+    mirrorHash ^= Zobrist.PLAYER_TWO_TO_MOVE;
+  }
+
+  private static int homeBaseIndexOf(final int playerNumber) {
+    return playerNumber == 1 ? PLAYER_ONE_HOME_BASE : PLAYER_TWO_HOME_BASE;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PackedBoard)) {
+      return false;
+    }
+    final PackedBoard other = (PackedBoard) o;
+    return currentPlayerNumber == other.currentPlayerNumber && Arrays.equals(wells, other.wells);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(wells) + currentPlayerNumber;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Player %d to move%n%s", currentPlayerNumber, toBoard());
+  }
+}
@@ -1,5 +1,7 @@
 package mancala;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import mancala.Move.IllegalMoveException;
 
 @lombok.Data
@@ -18,6 +20,19 @@ public class Player {
     return null;
   }
 
+  /**
+   * Answers without holding the calling thread while the move is being decided. By default the
+   * synchronous {@link #makeMove(Game)} is called in place, so players that compute their move
+   * straight away need not override this; players waiting on outside input should.
+   */
+  public CompletionStage<Move> makeMoveAsync(final Game game) {
+    try {
+      return CompletableFuture.completedFuture(makeMove(game));
+    } catch (final IllegalMoveException exception) {
+      return CompletableFuture.failedFuture(exception);
+    }
+  }
+
   public void inform(final Exception exception) {
     // TODO Auto-generated method stub
   }
@@ -0,0 +1,86 @@
+package mancala;
+
+/**
+ * Encodes a position, the fourteen wells and the player to move, as a single {@code long}.
+ *
+ * <p>{@link #pack(PackedBoard)} writes every well in unary, that many 1 bits followed by a 0, from
+ * well 0 down from bit 62, and the player to move in bit 0. It takes the bead total plus 13 bits,
+ * so it holds positions of up to {@link #MAX_PACKED_BEADS} beads: the standard game of 4 beads per
+ * well has 48, one of 3 beads has 36, but 5 or more beads per well do not fit. Packed values are
+ * never negative, and sort like their wells read from well 0, then the player to move.
+ *
+ * <p>{@link #rank(PackedBoard)} numbers the positions with the same bead total densely from 0 to
+ * {@link #rankCount(int)}, in the same order, and covers every position a {@link PackedBoard} can
+ * hold. The 48-bead game has about 1.3 × 10<sup>13</sup> of them.
+ */
+public final class PositionCodec {
+  public static final int MAX_PACKED_BEADS = 49;
+
+  private static final int SEPARATORS = PackedBoard.SIZE - 1;
+
+  private PositionCodec() {}
+
+  /** @throws IllegalArgumentException if the position has more than {@link #MAX_PACKED_BEADS} */
+  public static long pack(final PackedBoard board) {
+    long packed = 0;
+    int bits = 0;
+    for (int i = 0; i < PackedBoard.SIZE; i++) {
+      final int beads = board.getBeads(i);
+      bits += beads + (i < SEPARATORS ? 1 : 0);
+      if (bits > Long.SIZE - 2) {
+        throw new IllegalArgumentException("Too many beads to pack");
+      }
+      packed = (packed << beads | ((1L << beads) - 1)) << (i < SEPARATORS ? 1 : 0);
+    }
+    return packed << (Long.SIZE - 1 - bits) | (board.getCurrentPlayerNumber() - 1);
+  }
+
+  public static long pack(final Board board, final Player currentPlayer) {
+    return pack(PackedBoard.of(board, currentPlayer));
+  }
+
+  public static PackedBoard unpack(final long packed) {
+    if (packed < 0) {
+      throw new IllegalArgumentException();
+    }
+    final int[] wells = new int[PackedBoard.SIZE];
+    long bits = (packed & ~1L) << 1;
+    for (int i = 0; i < SEPARATORS; i++) {
+      final int beads = Long.numberOfLeadingZeros(~bits);
+      wells[i] = beads;
+      bits <<= beads + 1;
+    }
+    wells[SEPARATORS] = Long.numberOfLeadingZeros(~bits);
+    return new PackedBoard(wells, (int) (packed & 1) + 1);
+  }
+
+  /** Number of positions, counting both players to move, with {@code totalBeads} in all wells. */
+  public static long rankCount(final int totalBeads) {
+    return 2 * Compositions.count(totalBeads, PackedBoard.SIZE);
+  }
+
+  public static int totalBeadsOf(final PackedBoard board) {
+    return board.getBeadsInPlayerWells(1)
+        + board.getBeadsInPlayerWells(2)
+        + board.getHomeBaseBeads(1)
+        + board.getHomeBaseBeads(2);
+  }
+
+  /** @return the position's index among those with the same total, below {@link #rankCount} */
+  public static long rank(final PackedBoard board) {
+    final int[] wells = new int[PackedBoard.SIZE];
+    for (int i = 0; i < PackedBoard.SIZE; i++) {
+      wells[i] = board.getBeads(i);
+    }
+    return 2 * Compositions.rank(wells, totalBeadsOf(board)) + board.getCurrentPlayerNumber() - 1;
+  }
+
+  public static PackedBoard unrank(final long rank, final int totalBeads) {
+    if (rank < 0 || rank >= rankCount(totalBeads)) {
+      throw new IllegalArgumentException();
+    }
+    final int[] wells = new int[PackedBoard.SIZE];
+    Compositions.unrank(rank >>> 1, totalBeads, wells);
+    return new PackedBoard(wells, (int) (rank & 1) + 1);
+  }
+}
@@ -0,0 +1,40 @@
+package mancala;
+
+import mancala.Move.IllegalMoveException;
+
+public final class Rules {
+  private Rules() {}
+
+  public static MoveResult applyMove(
+      final Board board, final Player player, final int playerWellIndex)
+      throws IllegalMoveException {
+    final PackedBoard packedBoard = PackedBoard.of(board, player);
+    if (!packedBoard.isLegalMove(playerWellIndex)) {
+      throw new IllegalMoveException(playerWellIndex);
+    }
+    final int flags = packedBoard.applyMove(playerWellIndex);
+    return new MoveResult(packedBoard.toBoard(), flags);
+  }
+
+  @lombok.Value
+  public static class MoveResult {
+    private final Board board;
+    private final int flags;
+
+    public boolean isExtraTurn() {
+      return (flags & PackedBoard.EXTRA_TURN) != 0;
+    }
+
+    public boolean isCapture() {
+      return (flags & PackedBoard.CAPTURE) != 0;
+    }
+
+    public boolean isSideEmpty() {
+      return (flags & PackedBoard.SIDE_EMPTY) != 0;
+    }
+
+    public boolean isGameOver() {
+      return (flags & PackedBoard.GAME_OVER) != 0;
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package mancala;
+
+/**
+ * Precomputed outcome of sowing any number of beads from any player well. Each entry packs the
+ * board well index the last bead lands in, the number of full laps around the board and the number
+ * of beads dropped into the opponent's home base, so predicting a move is a single array read.
+ * Beads are sown into all fourteen wells, matching {@link State.MakingMove}.
+ */
+public final class Sowing {
+  public static final int MAX_BEADS = Byte.MAX_VALUE;
+
+  private static final int SIZE = PackedBoard.SIZE;
+  private static final int[] SOWINGS = new int[2 * 6 * (MAX_BEADS + 1)];
+
+  static {
+    for (int playerNumber = 1; playerNumber <= 2; playerNumber++) {
+      final int opponentHomeBase =
+          playerNumber == 1 ? PackedBoard.PLAYER_TWO_HOME_BASE : PackedBoard.PLAYER_ONE_HOME_BASE;
+      for (int playerWellIndex = 0; playerWellIndex < 6; playerWellIndex++) {
+        final int fromIndex = (playerNumber == 1 ? 0 : 7) + playerWellIndex;
+        int landingIndex = fromIndex;
+        int opponentHomeBasePasses = 0;
+        for (int beads = 0; beads <= MAX_BEADS; beads++) {
+          if (beads > 0) {
+            landingIndex = (landingIndex + 1) % SIZE;
+            if (landingIndex == opponentHomeBase) {
+              opponentHomeBasePasses++;
+            }
+          }
+          SOWINGS[indexOf(playerNumber, playerWellIndex, beads)] =
+              landingIndex | (beads / SIZE) << 4 | opponentHomeBasePasses << 8;
+        }
+      }
+    }
+  }
+
+  private Sowing() {}
+
+  /** @return the packed sowing, to be read with the static decoders of this class. */
+  public static int of(final int playerNumber, final int playerWellIndex, final int beads) {
+    return SOWINGS[indexOf(playerNumber, playerWellIndex, beads)];
+  }
+
+  public static int landingIndexOf(final int sowing) {
+    return sowing & 0xF;
+  }
+
+  /** @return how many beads every well, including the emptied one, gets from full laps. */
+  public static int lapsOf(final int sowing) {
+    return (sowing >>> 4) & 0xF;
+  }
+
+  public static int opponentHomeBasePassesOf(final int sowing) {
+    return sowing >>> 8;
+  }
+
+  private static int indexOf(final int playerNumber, final int playerWellIndex, final int beads) {
+    return ((playerNumber - 1) * 6 + playerWellIndex) * (MAX_BEADS + 1) + beads;
+  }
+}
@@ -1,12 +1,22 @@
 package mancala;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import mancala.Move.IllegalMoveException;
+import mancala.Rules.MoveResult;
 import mancala.Well.HomeBase;
+import mancala.jfr.PlayerDecisionEvent;
 
 public interface State {
   public Game progressGame(final Game game);
 
+  /** Completes with the next game without blocking while a player is deciding. */
+  public default CompletionStage<Game> progressGameAsync(final Game game) {
+    return CompletableFuture.completedFuture(progressGame(game));
+  }
+
   public Player getCurrentPlayer();
 
   public default String getToStringPrefix() {
@@ -17,19 +27,79 @@ public interface State {
   @lombok.Value
   public static class AwaitingPlayerChoice implements State {
     private final Player currentPlayer;
+    private final boolean animated;
+
+    public AwaitingPlayerChoice(final Player currentPlayer, final boolean animated) {
+      this.currentPlayer = currentPlayer;
+      this.animated = animated;
+    }
 
     public Game progressGame(final Game game) {
       Move move = null;
 
       while (move == null) {
+        final PlayerDecisionEvent event = new PlayerDecisionEvent();
+        event.begin();
+        final long start = System.nanoTime();
         try {
           move = currentPlayer.makeMove(game);
         } catch (final IllegalMoveException exception) {
+          GameMetrics.recordIllegalMove(currentPlayer);
           currentPlayer.inform(exception);
           move = null;
+        } finally {
+          GameMetrics.recordMove(currentPlayer, System.nanoTime() - start);
+          commit(event, game, move);
         }
       }
 
+      return play(game, move);
+    }
+
+    @Override
+    public CompletionStage<Game> progressGameAsync(final Game game) {
+      final PlayerDecisionEvent event = new PlayerDecisionEvent();
+      event.begin();
+      final long start = System.nanoTime();
+      return currentPlayer
+          .makeMoveAsync(game)
+          .handle(
+              (move, exception) -> {
+                GameMetrics.recordMove(currentPlayer, System.nanoTime() - start);
+                commit(event, game, move);
+                if (exception == null) {
+                  return CompletableFuture.completedFuture(play(game, move));
+                }
+                final Throwable cause =
+                    exception instanceof CompletionException ? exception.getCause() : exception;
+                if (cause instanceof IllegalMoveException) {
+                  GameMetrics.recordIllegalMove(currentPlayer);
+                  currentPlayer.inform((IllegalMoveException) cause);
+                  return progressGameAsync(game);
+                }
+                return CompletableFuture.<Game>failedFuture(cause);
+              })
+          .thenCompose(next -> next);
+    }
+
+    private void commit(final PlayerDecisionEvent event, final Game game, final Move move) {
+      if (event.shouldCommit()) {
+        event.player = currentPlayer.getClass().getSimpleName();
+        event.playerNumber = currentPlayer.getPlayerNumber();
+        event.wellIndex = move == null ? -1 : move.getWellIndex();
+        event.beads =
+            move == null
+                ? 0
+                : game.getBoard().getWellFor(currentPlayer, move.getWellIndex()).getNumberOfBeads();
+        event.commit();
+      }
+    }
+
+    private Game play(final Game game, final Move move) {
+      if (!animated) {
+        return makeWholeMove(game, move);
+      }
+
       return new Game(
           game.getPlayers(),
           game.getBoard(),
@@ -40,6 +110,25 @@ public interface State {
               game.getBoard().getNextBoardWellIndexFor(currentPlayer, move.getWellIndex())));
     }
 
+    private Game makeWholeMove(final Game game, final Move move) {
+      final MoveResult result;
+      try {
+        result = Rules.applyMove(game.getBoard(), currentPlayer, move.getWellIndex());
+      } catch (final IllegalMoveException exception) {
+        throw new IllegalStateException(exception);
+      }
+
+      if (result.isGameOver()) {
+        return new Game(game.getPlayers(), result.getBoard(), new NoMoreMovesLeft(currentPlayer));
+      }
+
+      return new Game(
+          game.getPlayers(),
+          result.getBoard(),
+          new AwaitingPlayerChoice(
+              result.isExtraTurn() ? currentPlayer : game.getOtherPlayer(currentPlayer), false));
+    }
+
     public String toString() {
       return String.format("%s%n", getToStringPrefix());
     }
@@ -88,7 +177,7 @@ public interface State {
         if (currentPlayer.getPlayerNumber() == 1 && toBoardWellIndex == 6
             || currentPlayer.getPlayerNumber() == 2 && toBoardWellIndex == 13) {
           return new Game(
-              game.getPlayers(), boardAfterLastBead, new AwaitingPlayerChoice(currentPlayer));
+              game.getPlayers(), boardAfterLastBead, new AwaitingPlayerChoice(currentPlayer, true));
         }
 
         // Check for CommittingCapture
@@ -105,7 +194,7 @@ public interface State {
         return new Game(
             game.getPlayers(),
             boardAfterLastBead,
-            new AwaitingPlayerChoice(game.getOtherPlayer(currentPlayer)));
+            new AwaitingPlayerChoice(game.getOtherPlayer(currentPlayer), true));
       }
     }
 
@@ -148,7 +237,7 @@ public interface State {
       return new Game(
           game.getPlayers(),
           boardAfterCapture,
-          new AwaitingPlayerChoice(game.getOtherPlayer(currentPlayer)));
+          new AwaitingPlayerChoice(game.getOtherPlayer(currentPlayer), true));
     }
 
     public String toString() {
@@ -0,0 +1,64 @@
+package mancala;
+
+import mancala.Well.HomeBase;
+import mancala.Well.PlayerWell;
+import one.util.streamex.IntStreamEx;
+
+/**
+ * The rules treat both players alike, so a position with Player 2 to move plays exactly like the
+ * one with the two sides swapped and Player 1 to move: every well {@code i} moved to {@link
+ * #mirrorIndex(int)}. Caches keyed on the {@link #canonical(PackedBoard)} form, or on {@link
+ * PackedBoard#getCanonicalHash()}, hold one entry for both.
+ *
+ * <p>Moves are player well indexes counted from the mover's own side, so a move is the same in a
+ * position and its mirror, as is a score from the mover's point of view. Only board well indexes
+ * need mapping, and {@link #mirrorIndex(int)} is its own inverse.
+ */
+public final class Symmetry {
+  private Symmetry() {}
+
+  public static int mirrorIndex(final int boardWellIndex) {
+    return boardWellIndex < 7 ? boardWellIndex + 7 : boardWellIndex - 7;
+  }
+
+  public static PackedBoard mirror(final PackedBoard board) {
+    final int[] wells = new int[PackedBoard.SIZE];
+    for (int i = 0; i < PackedBoard.SIZE; i++) {
+      wells[mirrorIndex(i)] = board.getBeads(i);
+    }
+    return new PackedBoard(wells, 3 - board.getCurrentPlayerNumber());
+  }
+
+  public static Board mirror(final Board board) {
+    return new Board(
+        IntStreamEx.range(PackedBoard.SIZE)
+            .<Well>mapToObj(
+                i -> {
+                  final int beads = board.getWells().get(mirrorIndex(i)).getNumberOfBeads();
+                  return i == PackedBoard.PLAYER_ONE_HOME_BASE
+                          || i == PackedBoard.PLAYER_TWO_HOME_BASE
+                      ? new HomeBase(beads)
+                      : new PlayerWell(beads);
+                })
+            .toList());
+  }
+
+  public static boolean isCanonical(final PackedBoard board) {
+    return board.getCurrentPlayerNumber() == 1;
+  }
+
+  /** @return the position with Player 1 to move, a copy of {@code board} if it already is */
+  public static PackedBoard canonical(final PackedBoard board) {
+    return isCanonical(board) ? board.copy() : mirror(board);
+  }
+
+  /** @return {@link PositionCodec#pack(PackedBoard)} of the canonical position */
+  public static long canonicalKey(final PackedBoard board) {
+    return PositionCodec.pack(canonical(board));
+  }
+
+  /** Maps a board well index between {@code board} and its canonical form, in either direction. */
+  public static int canonicalIndex(final PackedBoard board, final int boardWellIndex) {
+    return isCanonical(board) ? boardWellIndex : mirrorIndex(boardWellIndex);
+  }
+}
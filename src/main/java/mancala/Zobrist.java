@@ -0,0 +1,36 @@
+package mancala;
+
+import java.util.SplittableRandom;
+
+/**
+ * Fixed Zobrist keys for every (board well, bead count) pair a {@link PackedBoard} can hold. The
+ * seed is constant so hashes are stable across JVMs and can be written to disk.
+ */
+public final class Zobrist {
+  public static final long PLAYER_TWO_TO_MOVE;
+
+  private static final int MAX_BEADS = Byte.MAX_VALUE + 1;
+  private static final long[] KEYS = new long[PackedBoard.SIZE * MAX_BEADS];
+
+  static {
+    final SplittableRandom random = new SplittableRandom(0x6d616e63616c61L);
+    for (int i = 0; i < KEYS.length; i++) {
+      KEYS[i] = random.nextLong();
+    }
+    PLAYER_TWO_TO_MOVE = random.nextLong();
+  }
+
+  private Zobrist() {}
+
+  public static long keyFor(final int boardWellIndex, final int beads) {
+    return KEYS[boardWellIndex * MAX_BEADS + beads];
+  }
+
+  public static long hash(final PackedBoard board) {
+    long hash = board.getCurrentPlayerNumber() == 2 ? PLAYER_TWO_TO_MOVE : 0;
+    for (int i = 0; i < PackedBoard.SIZE; i++) {
+      hash ^= keyFor(i, board.getBeads(i));
+    }
+    return hash;
+  }
+}
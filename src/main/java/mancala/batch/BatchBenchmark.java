@@ -0,0 +1,76 @@
+package mancala.batch;
+
+import java.util.SplittableRandom;
+import mancala.PackedBoard;
+import one.util.streamex.StreamEx;
+
+/**
+ * Plays random games to the end with {@link BatchGames} for each batch size, and one {@link
+ * PackedBoard} at a time for comparison, and prints games per second.
+ *
+ * <p>Usage: {@code BatchBenchmark [games] [batch sizes,...]}
+ */
+public class BatchBenchmark {
+  private static final int WARMUP_ROUNDS = 3;
+
+  public static void main(final String[] args) {
+    final int games = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 20;
+    final int[] batchSizes =
+        args.length > 1
+            ? StreamEx.split(args[1], ',').mapToInt(Integer::parseInt).toArray()
+            : new int[] {1, 16, 256, 4096, 65536};
+
+    System.out.printf("%-12s %12s %14s %14s%n", "Batch", "Games", "Games/s", "Plies/s");
+
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      playPackedBoards(games / 8);
+    }
+    final long[] sequential = playPackedBoards(games);
+    print("sequential", games, sequential[0], sequential[1]);
+
+    for (final int batchSize : batchSizes) {
+      final BatchGames batch = new BatchGames(batchSize);
+      final BatchPolicy policy = BatchPolicy.random(42);
+      for (int round = 0; round < WARMUP_ROUNDS; round++) {
+        playBatch(batch, policy, games / 8);
+      }
+      final long[] result = playBatch(batch, policy, games);
+      print(String.valueOf(batchSize), games, result[0], result[1]);
+    }
+  }
+
+  private static long[] playBatch(
+      final BatchGames batch, final BatchPolicy policy, final int games) {
+    final long start = System.nanoTime();
+    batch.play(policy, games, game -> {});
+    return new long[] {System.nanoTime() - start, batch.getPlies()};
+  }
+
+  private static long[] playPackedBoards(final int games) {
+    final SplittableRandom random = new SplittableRandom(42);
+    final PackedBoard start = PackedBoard.createStartingBoard();
+    final PackedBoard board = start.copy();
+    long plies = 0;
+    final long startNanos = System.nanoTime();
+    for (int i = 0; i < games; i++) {
+      board.copyFrom(start);
+      while (!board.isGameOver()) {
+        final int moves = board.getLegalMoves();
+        int remaining = moves;
+        for (int skip = random.nextInt(Integer.bitCount(moves)); skip > 0; skip--) {
+          remaining &= remaining - 1;
+        }
+        board.applyMove(Integer.numberOfTrailingZeros(remaining));
+        plies++;
+      }
+    }
+    return new long[] {System.nanoTime() - startNanos, plies};
+  }
+
+  private static void print(
+      final String batch, final long games, final long elapsedNanos, final long plies) {
+    System.out.printf(
+        "%-12s %12d %14d %14d%n",
+        batch, games, games * 1_000_000_000L / elapsedNanos, plies * 1_000_000_000L / elapsedNanos);
+  }
+}
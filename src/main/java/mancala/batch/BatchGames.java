@@ -0,0 +1,317 @@
+package mancala.batch;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import mancala.PackedBoard;
+
+/**
+ * Plays many games side by side, one move in every unfinished game per {@link #step(BatchPolicy)}.
+ * Positions are stored as a struct of arrays: one array per well, indexed by game, plus arrays for
+ * the player to move and the flags of the last move. Sowing, side totals and legal moves are then
+ * plain loops over one array at a time, which C2 can unroll and vectorize; only choosing moves and
+ * resolving captures and extra turns go game by game.
+ *
+ * <p>The rules are those of {@link PackedBoard#applyMove(int)}, and so of the {@link mancala.State}
+ * machine.
+ */
+public class BatchGames {
+  private static final int SIZE = PackedBoard.SIZE;
+  private static final int[] STARTING_WELLS = {4, 4, 4, 4, 4, 4, 0, 4, 4, 4, 4, 4, 4, 0};
+
+  private final int size;
+  private final int[][] wells = new int[SIZE][];
+  private final int[] currentPlayerNumbers;
+  private final int[] flags;
+  private final int[] legalMoves;
+
+  private final int[] fromIndexes;
+  private final int[] laps;
+  private final int[] remainders;
+  private final int[] playerOneBeads;
+  private final int[] playerTwoBeads;
+  private final int[] ended;
+
+  private int endedCount;
+  private int running;
+  private long plies;
+
+  public BatchGames(final int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException();
+    }
+    this.size = size;
+    for (int i = 0; i < SIZE; i++) {
+      wells[i] = new int[size];
+    }
+    this.currentPlayerNumbers = new int[size];
+    this.flags = new int[size];
+    this.legalMoves = new int[size];
+    this.fromIndexes = new int[size];
+    this.laps = new int[size];
+    this.remainders = new int[size];
+    this.playerOneBeads = new int[size];
+    this.playerTwoBeads = new int[size];
+    this.ended = new int[size];
+    reset();
+  }
+
+  /** Puts every game back to the starting board. */
+  public void reset() {
+    for (int i = 0; i < SIZE; i++) {
+      Arrays.fill(wells[i], STARTING_WELLS[i]);
+    }
+    Arrays.fill(currentPlayerNumbers, 1);
+    Arrays.fill(flags, 0);
+    running = size;
+    plies = 0;
+    updateLegalMoves();
+  }
+
+  public void set(final int game, final PackedBoard board) {
+    final boolean wasRunning = !isGameOver(game);
+    for (int i = 0; i < SIZE; i++) {
+      wells[i][game] = board.getBeads(i);
+    }
+    currentPlayerNumbers[game] = board.getCurrentPlayerNumber();
+    flags[game] = board.isGameOver() ? PackedBoard.GAME_OVER : 0;
+    running += (wasRunning ? -1 : 0) + (board.isGameOver() ? 0 : 1);
+    legalMoves[game] = board.isGameOver() ? 0 : board.getLegalMoves();
+  }
+
+  public PackedBoard get(final int game) {
+    final int[] gameWells = new int[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      gameWells[i] = wells[i][game];
+    }
+    return new PackedBoard(gameWells, currentPlayerNumbers[game]);
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public int getRunning() {
+    return running;
+  }
+
+  /** @return the number of moves played in all games since the last {@link #reset()} */
+  public long getPlies() {
+    return plies;
+  }
+
+  public int getBeads(final int game, final int boardWellIndex) {
+    return wells[boardWellIndex][game];
+  }
+
+  public int getCurrentPlayerNumber(final int game) {
+    return currentPlayerNumbers[game];
+  }
+
+  /** @return a bit for every non-empty well of the player to move, or none once the game is over */
+  public int getLegalMoves(final int game) {
+    return legalMoves[game];
+  }
+
+  /** @return the {@link PackedBoard#applyMove(int)} flags of the last move played in the game */
+  public int getFlags(final int game) {
+    return flags[game];
+  }
+
+  public boolean isGameOver(final int game) {
+    return (flags[game] & PackedBoard.GAME_OVER) != 0;
+  }
+
+  /** @return the winning player number once the game is over, or {@code 0} for a draw. */
+  public int getWinningPlayerNumber(final int game) {
+    final int difference =
+        wells[PackedBoard.PLAYER_ONE_HOME_BASE][game]
+            - wells[PackedBoard.PLAYER_TWO_HOME_BASE][game];
+    return difference > 0 ? 1 : difference < 0 ? 2 : 0;
+  }
+
+  /** Steps until every game is over. */
+  public void play(final BatchPolicy policy) {
+    while (running > 0) {
+      step(policy);
+    }
+  }
+
+  /**
+   * Plays {@code games} games from the starting board, starting the next one in a slot as soon as
+   * its game is over rather than leaving it idle until the longest game in the batch ends.
+   *
+   * @param gameOver told the slot of every game as it ends, before the slot is reused
+   */
+  public void play(final BatchPolicy policy, final long games, final IntConsumer gameOver) {
+    reset();
+    for (int game = (int) Math.min(games, size); game < size; game++) {
+      flags[game] = PackedBoard.GAME_OVER;
+      legalMoves[game] = 0;
+      running--;
+    }
+    long started = running;
+    while (running > 0) {
+      step(policy);
+      for (int i = 0; i < endedCount; i++) {
+        final int game = ended[i];
+        gameOver.accept(game);
+        if (started < games) {
+          restart(game);
+          started++;
+        }
+      }
+    }
+  }
+
+  private void restart(final int game) {
+    for (int i = 0; i < SIZE; i++) {
+      wells[i][game] = STARTING_WELLS[i];
+    }
+    currentPlayerNumbers[game] = 1;
+    flags[game] = 0;
+    legalMoves[game] = 0x3F;
+    running++;
+  }
+
+  /**
+   * Plays one move chosen by {@code policy} in every unfinished game.
+   *
+   * @throws IllegalArgumentException if the policy picks an illegal move
+   */
+  public void step(final BatchPolicy policy) {
+    endedCount = 0;
+    pickUpBeads(policy);
+    sow();
+    countSides();
+    resolve();
+    updateLegalMoves();
+  }
+
+  private void pickUpBeads(final BatchPolicy policy) {
+    for (int game = 0; game < size; game++) {
+      if (legalMoves[game] == 0) {
+        fromIndexes[game] = 0;
+        laps[game] = 0;
+        remainders[game] = 0;
+        continue;
+      }
+      final int move = policy.chooseMove(this, game);
+      if (move < 0 || move > 5 || (legalMoves[game] & (1 << move)) == 0) {
+        throw new IllegalArgumentException(String.format("Move [%d] is illegal", move));
+      }
+      final int fromIndex = currentPlayerNumbers[game] == 1 ? move : move + 7;
+      final int beads = wells[fromIndex][game];
+      wells[fromIndex][game] = 0;
+      fromIndexes[game] = fromIndex;
+      laps[game] = beads / SIZE;
+      remainders[game] = beads % SIZE;
+      plies++;
+    }
+  }
+
+  /**
+   * Every well gains a bead per lap, and one more if it is among the first {@code remainder} wells
+   * after the one sown from. Games not being played have no laps and no remainder.
+   */
+  private void sow() {
+    for (int i = 0; i < SIZE; i++) {
+      final int[] well = wells[i];
+      for (int game = 0; game < size; game++) {
+        int distance = i - fromIndexes[game] - 1;
+        distance += (distance >> 31) & SIZE;
+        well[game] += laps[game] + ((distance - remainders[game]) >>> 31);
+      }
+    }
+  }
+
+  private void countSides() {
+    System.arraycopy(wells[0], 0, playerOneBeads, 0, size);
+    System.arraycopy(wells[7], 0, playerTwoBeads, 0, size);
+    for (int i = 1; i < 6; i++) {
+      final int[] playerOneWell = wells[i];
+      final int[] playerTwoWell = wells[i + 7];
+      for (int game = 0; game < size; game++) {
+        playerOneBeads[game] += playerOneWell[game];
+        playerTwoBeads[game] += playerTwoWell[game];
+      }
+    }
+  }
+
+  /** Extra turns, captures and the end of the game, as in {@link PackedBoard#applyMove(int)}. */
+  private void resolve() {
+    for (int game = 0; game < size; game++) {
+      if (legalMoves[game] == 0) {
+        continue;
+      }
+      if (playerOneBeads[game] == 0 || playerTwoBeads[game] == 0) {
+        flags[game] = finish(game);
+        continue;
+      }
+
+      final int playerNumber = currentPlayerNumbers[game];
+      final int homeBase =
+          playerNumber == 1 ? PackedBoard.PLAYER_ONE_HOME_BASE : PackedBoard.PLAYER_TWO_HOME_BASE;
+      final int lastIndex = (fromIndexes[game] + remainders[game]) % SIZE;
+      if (lastIndex == homeBase) {
+        flags[game] = PackedBoard.EXTRA_TURN;
+        continue;
+      }
+
+      final int oppositeIndex = 12 - lastIndex;
+      if (lastIndex >= homeBase - 6
+          && lastIndex < homeBase
+          && wells[lastIndex][game] == 1
+          && wells[oppositeIndex][game] != 0) {
+        final int opposite = wells[oppositeIndex][game];
+        wells[homeBase][game] += 1 + opposite;
+        wells[lastIndex][game] = 0;
+        wells[oppositeIndex][game] = 0;
+        if (playerNumber == 1) {
+          playerOneBeads[game] -= 1;
+          playerTwoBeads[game] -= opposite;
+        } else {
+          playerTwoBeads[game] -= 1;
+          playerOneBeads[game] -= opposite;
+        }
+        if (playerOneBeads[game] == 0 || playerTwoBeads[game] == 0) {
+          flags[game] = finish(game) | PackedBoard.CAPTURE;
+          continue;
+        }
+        flags[game] = PackedBoard.CAPTURE;
+      } else {
+        flags[game] = 0;
+      }
+      currentPlayerNumbers[game] = 3 - playerNumber;
+    }
+  }
+
+  private int finish(final int game) {
+    final int strayBeads = playerOneBeads[game] + playerTwoBeads[game];
+    wells[PackedBoard.PLAYER_ONE_HOME_BASE][game] += playerOneBeads[game];
+    wells[PackedBoard.PLAYER_TWO_HOME_BASE][game] += playerTwoBeads[game];
+    for (int i = 0; i < 6; i++) {
+      wells[i][game] = 0;
+      wells[i + 7][game] = 0;
+    }
+    running--;
+    ended[endedCount++] = game;
+    return PackedBoard.GAME_OVER | (strayBeads != 0 ? PackedBoard.SIDE_EMPTY : 0);
+  }
+
+  private void updateLegalMoves() {
+    Arrays.fill(legalMoves, 0);
+    for (int i = 0; i < 6; i++) {
+      final int[] playerOneWell = wells[i];
+      final int[] playerTwoWell = wells[i + 7];
+      for (int game = 0; game < size; game++) {
+        final int playerTwoMask = 1 - currentPlayerNumbers[game];
+        final int beads =
+            playerOneWell[game] + ((playerTwoWell[game] - playerOneWell[game]) & playerTwoMask);
+        legalMoves[game] |= ((-beads) >>> 31) << i;
+      }
+    }
+    for (int game = 0; game < size; game++) {
+      legalMoves[game] &= ((flags[game] & PackedBoard.GAME_OVER) - 1) >> 31;
+    }
+  }
+}
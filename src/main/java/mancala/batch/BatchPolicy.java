@@ -0,0 +1,25 @@
+package mancala.batch;
+
+import java.util.SplittableRandom;
+
+@FunctionalInterface
+public interface BatchPolicy {
+  /** Plays the lowest legal well. */
+  public static final BatchPolicy FIRST_LEGAL =
+      (games, game) -> Integer.numberOfTrailingZeros(games.getLegalMoves(game));
+
+  public static BatchPolicy random(final long seed) {
+    final SplittableRandom random = new SplittableRandom(seed);
+    return (games, game) -> {
+      final int moves = games.getLegalMoves(game);
+      int remaining = moves;
+      for (int skip = random.nextInt(Integer.bitCount(moves)); skip > 0; skip--) {
+        remaining &= remaining - 1;
+      }
+      return Integer.numberOfTrailingZeros(remaining);
+    };
+  }
+
+  /** @return the player well to play in {@code game}, one of {@link BatchGames#getLegalMoves} */
+  public int chooseMove(final BatchGames games, final int game);
+}
@@ -0,0 +1,111 @@
+package mancala.book;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalInt;
+import mancala.PackedBoard;
+
+/**
+ * Read-only, memory-mapped view of a file written by {@link OpeningBookBuilder}. Entries are sorted
+ * by {@link PackedBoard#getCanonicalHash()} and found with a binary search, so opening a book costs
+ * no more than mapping the file.
+ *
+ * <p>Each entry is the position's hash followed by an int packing the best move, the depth it was
+ * searched to and its score.
+ */
+public class OpeningBook implements Closeable {
+  static final int MAGIC = 0x4d4e4f42;
+  static final int VERSION = 2;
+  static final int HEADER_SIZE = 3 * Integer.BYTES;
+  static final int ENTRY_SIZE = Long.BYTES + Integer.BYTES;
+
+  private final FileChannel channel;
+  private final MappedByteBuffer entries;
+  private final int size;
+
+  private OpeningBook(final FileChannel channel) throws IOException {
+    this.channel = channel;
+    final MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+    if (channel.size() < HEADER_SIZE
+        || buffer.getInt(0) != MAGIC
+        || buffer.getInt(Integer.BYTES) != VERSION) {
+      throw new IOException("Not an opening book file");
+    }
+    this.size = buffer.getInt(2 * Integer.BYTES);
+    if (size < 0 || channel.size() != HEADER_SIZE + (long) size * ENTRY_SIZE) {
+      throw new IOException("Corrupt opening book file");
+    }
+    this.entries = buffer;
+  }
+
+  public static OpeningBook open(final Path path) throws IOException {
+    final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new OpeningBook(channel);
+    } catch (final IOException exception) {
+      channel.close();
+      throw exception;
+    }
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public OptionalInt getMove(final PackedBoard board) {
+    final int entry = find(board.getCanonicalHash());
+    return entry < 0 ? OptionalInt.empty() : OptionalInt.of(moveOf(dataAt(entry)));
+  }
+
+  public OptionalInt getScore(final PackedBoard board) {
+    final int entry = find(board.getCanonicalHash());
+    return entry < 0 ? OptionalInt.empty() : OptionalInt.of(scoreOf(dataAt(entry)));
+  }
+
+  private int find(final long hash) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final long middleHash = entries.getLong(HEADER_SIZE + middle * ENTRY_SIZE);
+      if (middleHash < hash) {
+        low = middle + 1;
+      } else if (middleHash > hash) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -1;
+  }
+
+  private int dataAt(final int entry) {
+    return entries.getInt(HEADER_SIZE + entry * ENTRY_SIZE + Long.BYTES);
+  }
+
+  static int pack(final int move, final int depth, final int score) {
+    return (move << 24) | (depth << 16) | (score & 0xFFFF);
+  }
+
+  static int moveOf(final int data) {
+    return data >>> 24;
+  }
+
+  static int depthOf(final int data) {
+    return (data >>> 16) & 0xFF;
+  }
+
+  static int scoreOf(final int data) {
+    return (short) data;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
@@ -0,0 +1,119 @@
+package mancala.book;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import mancala.PackedBoard;
+import mancala.search.AlphaBetaSearch;
+import mancala.search.Evaluation;
+import mancala.search.SearchResult;
+import mancala.search.TranspositionTable;
+import one.util.streamex.IntStreamEx;
+
+/**
+ * Builds an {@link OpeningBook} by searching every position reachable from the starting board
+ * within a number of plies to a fixed depth. Positions are searched in parallel, each thread with
+ * its own {@link TranspositionTable}.
+ */
+public class OpeningBookBuilder {
+  private static final Duration UNLIMITED = Duration.ofDays(1);
+  private static final int TABLE_SIZE_IN_MEGABYTES = 32;
+
+  private OpeningBookBuilder() {}
+
+  public static SortedMap<Long, Integer> build(final int plies, final int depth) {
+    final List<PackedBoard> positions = new ArrayList<>(collectPositions(plies));
+    final int threads = Runtime.getRuntime().availableProcessors();
+
+    final SortedMap<Long, Integer> entries = new ConcurrentSkipListMap<>();
+    IntStreamEx.range(threads)
+        .parallel()
+        .forEach(
+            thread -> {
+              final AlphaBetaSearch search =
+                  new AlphaBetaSearch(
+                      Evaluation.STORE_DIFFERENCE, new TranspositionTable(TABLE_SIZE_IN_MEGABYTES));
+              for (int i = thread; i < positions.size(); i += threads) {
+                final PackedBoard board = positions.get(i);
+                final SearchResult result = search.search(board, UNLIMITED, depth);
+                entries.put(
+                    board.getCanonicalHash(),
+                    OpeningBook.pack(
+                        result.getPlayerWellIndex(),
+                        result.getDepth(),
+                        Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, result.getScore()))));
+              }
+            });
+    return entries;
+  }
+
+  public static void write(final Path path, final SortedMap<Long, Integer> entries)
+      throws IOException {
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(OpeningBook.HEADER_SIZE + entries.size() * OpeningBook.ENTRY_SIZE);
+    buffer.putInt(OpeningBook.MAGIC).putInt(OpeningBook.VERSION).putInt(entries.size());
+    entries.forEach((hash, data) -> buffer.putLong(hash).putInt(data));
+    buffer.flip();
+
+    try (final FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+  }
+
+  static Collection<PackedBoard> collectPositions(final int plies) {
+    final Map<Long, PackedBoard> positions = new LinkedHashMap<>();
+    List<PackedBoard> frontier = List.of(PackedBoard.createStartingBoard());
+    for (int ply = 0; ply <= plies && !frontier.isEmpty(); ply++) {
+      final List<PackedBoard> next = new ArrayList<>();
+      for (final PackedBoard board : frontier) {
+        if (positions.putIfAbsent(board.getCanonicalHash(), board) != null || ply == plies) {
+          continue;
+        }
+        for (int move = 0; move < 6; move++) {
+          if (board.isLegalMove(move)) {
+            final PackedBoard child = board.copy();
+            child.applyMove(move);
+            if (!child.isGameOver()) {
+              next.add(child);
+            }
+          }
+        }
+      }
+      frontier = next;
+    }
+    return positions.values();
+  }
+
+  /** Usage: {@code OpeningBookBuilder <plies> <depth> <file>} */
+  public static void main(final String[] args) throws IOException {
+    if (args.length != 3) {
+      System.err.println("Usage: OpeningBookBuilder <plies> <depth> <file>");
+      System.exit(1);
+    }
+    final long start = System.nanoTime();
+    final SortedMap<Long, Integer> entries =
+        build(Integer.parseInt(args[0]), Integer.parseInt(args[1]));
+    write(Paths.get(args[2]), entries);
+    System.out.printf(
+        "Wrote %d positions in %.1fs%n", entries.size(), (System.nanoTime() - start) / 1e9);
+  }
+}
@@ -0,0 +1,37 @@
+package mancala.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import mancala.Game;
+import mancala.Game.FinishedGame;
+import mancala.State.MakingMove;
+import mancala.Well;
+
+/**
+ * A snapshot of one {@link mancala.State} transition. Every event carries the whole board, so a
+ * spectator that misses some of them still ends up showing the right position.
+ */
+@lombok.Value
+public class GameEvent {
+  private final long sequence;
+  private final String state;
+  private final int playerNumber;
+  private final int[] wells;
+  private final boolean finished;
+
+  public static GameEvent of(final long sequence, final Game game) {
+    return new GameEvent(
+        sequence,
+        game instanceof FinishedGame
+            ? FinishedGame.class.getSimpleName()
+            : game.getState().getClass().getSimpleName(),
+        game.getState().getCurrentPlayer().getPlayerNumber(),
+        game.getBoard().getWells().stream().mapToInt(Well::getNumberOfBeads).toArray(),
+        game instanceof FinishedGame);
+  }
+
+  /** Per-bead frames can be dropped in favour of later ones when a spectator falls behind. */
+  @JsonIgnore
+  public boolean isCoalescable() {
+    return state.equals(MakingMove.class.getSimpleName());
+  }
+}
@@ -0,0 +1,182 @@
+package mancala.event;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import mancala.Game;
+
+/**
+ * Fans game events out to any number of {@link Flow.Subscriber}s. Publishing never blocks: each
+ * subscriber has its own buffer of at most {@code bufferCapacity} events, drained on the executor
+ * as the subscriber requests more. When a buffer is full the oldest per-bead frame is dropped, or
+ * the oldest event if there is none, so a slow spectator sees fewer frames rather than holding up
+ * the game or growing without bound. New subscribers start from the latest event.
+ */
+public class GameEventPublisher implements Flow.Publisher<GameEvent>, AutoCloseable {
+  private final Executor executor;
+  private final int bufferCapacity;
+  private final List<BufferedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+  private long sequence;
+  private GameEvent latest;
+  private boolean closed;
+
+  public GameEventPublisher(final Executor executor, final int bufferCapacity) {
+    if (bufferCapacity < 1) {
+      throw new IllegalArgumentException();
+    }
+    this.executor = executor;
+    this.bufferCapacity = bufferCapacity;
+  }
+
+  /** Does nothing once the publisher is closed, e.g. by a session store evicting the game. */
+  public synchronized void publish(final Game game) {
+    if (closed) {
+      return;
+    }
+    latest = GameEvent.of(++sequence, game);
+    for (final BufferedSubscription subscription : subscriptions) {
+      subscription.offer(latest);
+    }
+  }
+
+  @Override
+  public synchronized void subscribe(final Flow.Subscriber<? super GameEvent> subscriber) {
+    final BufferedSubscription subscription = new BufferedSubscription(subscriber);
+    subscriber.onSubscribe(subscription);
+    if (latest != null) {
+      subscription.offer(latest);
+    }
+    if (closed) {
+      subscription.complete();
+    } else {
+      subscriptions.add(subscription);
+    }
+  }
+
+  public int getSubscriberCount() {
+    return subscriptions.size();
+  }
+
+  /** Completes every subscriber once it has received what is already buffered for it. */
+  @Override
+  public synchronized void close() {
+    if (!closed) {
+      closed = true;
+      for (final BufferedSubscription subscription : subscriptions) {
+        subscription.complete();
+      }
+      subscriptions.clear();
+    }
+  }
+
+  private final class BufferedSubscription implements Flow.Subscription {
+    private final Flow.Subscriber<? super GameEvent> subscriber;
+    private final ArrayDeque<GameEvent> buffer = new ArrayDeque<>();
+    private final AtomicInteger pendingDrains = new AtomicInteger();
+    private long demand;
+    private boolean completed;
+    private boolean cancelled;
+    private Throwable error;
+
+    private BufferedSubscription(final Flow.Subscriber<? super GameEvent> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    private void offer(final GameEvent event) {
+      synchronized (this) {
+        if (cancelled) {
+          return;
+        }
+        if (buffer.size() == bufferCapacity) {
+          dropOldestFrame();
+        }
+        buffer.addLast(event);
+      }
+      scheduleDrain();
+    }
+
+    private void dropOldestFrame() {
+      final Iterator<GameEvent> events = buffer.iterator();
+      while (events.hasNext()) {
+        if (events.next().isCoalescable()) {
+          events.remove();
+          return;
+        }
+      }
+      buffer.pollFirst();
+    }
+
+    private void complete() {
+      synchronized (this) {
+        completed = true;
+      }
+      scheduleDrain();
+    }
+
+    @Override
+    public void request(final long n) {
+      synchronized (this) {
+        if (n <= 0) {
+          error = new IllegalArgumentException("Requested " + n + " events");
+        } else {
+          demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        }
+      }
+      scheduleDrain();
+    }
+
+    @Override
+    public void cancel() {
+      synchronized (this) {
+        cancelled = true;
+        buffer.clear();
+      }
+      subscriptions.remove(this);
+    }
+
+    private void scheduleDrain() {
+      if (pendingDrains.getAndIncrement() == 0) {
+        executor.execute(this::drain);
+      }
+    }
+
+    private void drain() {
+      int missed = 1;
+      do {
+        while (true) {
+          final GameEvent event;
+          synchronized (this) {
+            if (cancelled || demand == 0 || buffer.isEmpty() || error != null) {
+              break;
+            }
+            event = buffer.pollFirst();
+            demand--;
+          }
+          subscriber.onNext(event);
+        }
+
+        final Throwable failure;
+        final boolean finished;
+        synchronized (this) {
+          failure = cancelled ? null : error;
+          finished = !cancelled && error == null && completed && buffer.isEmpty();
+          if (failure != null || finished) {
+            cancelled = true;
+          }
+        }
+        if (failure != null) {
+          subscriptions.remove(this);
+          subscriber.onError(failure);
+        } else if (finished) {
+          subscriber.onComplete();
+        }
+
+        missed = pendingDrains.addAndGet(-missed);
+      } while (missed != 0);
+    }
+  }
+}
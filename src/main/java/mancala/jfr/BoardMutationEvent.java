@@ -0,0 +1,34 @@
+package mancala.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("mancala.BoardMutation")
+@Label("Board Mutation")
+@Category("Mancala")
+@Description("Building a new Board from an old one: a bead moved, a capture or the final sweep")
+@Enabled(false)
+@StackTrace(false)
+public class BoardMutationEvent extends Event {
+  public static final String MOVE_BEAD = "moveBead";
+  public static final String CAPTURE = "capture";
+  public static final String CLAIM = "claim";
+
+  @Label("Operation")
+  public String operation;
+
+  @Label("Player Number")
+  public int playerNumber;
+
+  @Label("Board Well Index")
+  public int boardWellIndex;
+
+  @Label("Beads")
+  @Description("Beads moved into the target well or home base")
+  public int beads;
+}
@@ -0,0 +1,31 @@
+package mancala.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("mancala.PlayerDecision")
+@Label("Player Decision")
+@Category("Mancala")
+@Description("Time a player took to choose a move, including illegal attempts")
+@Enabled(false)
+@StackTrace(false)
+public class PlayerDecisionEvent extends Event {
+  @Label("Player")
+  public String player;
+
+  @Label("Player Number")
+  public int playerNumber;
+
+  @Label("Well Index")
+  @Description("The chosen player well, or -1 when the choice was illegal")
+  public int wellIndex;
+
+  @Label("Beads")
+  @Description("Beads in the chosen well")
+  public int beads;
+}
@@ -0,0 +1,30 @@
+package mancala.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("mancala.StateTransition")
+@Label("State Transition")
+@Category("Mancala")
+@Description("One Game.progress call, from the state it left to the state it reached")
+@Enabled(false)
+@StackTrace(false)
+public class StateTransitionEvent extends Event {
+  @Label("State")
+  public String state;
+
+  @Label("Next State")
+  public String nextState;
+
+  @Label("Player Number")
+  public int playerNumber;
+
+  @Label("Beads In Play")
+  @Description("Beads left in both players' wells after the transition")
+  public int beadsInPlay;
+}
@@ -0,0 +1,130 @@
+package mancala.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only file of {@link GameRecord}s. Each record is framed by its length as a varint and
+ * followed by a CRC32C of its bytes, so a record torn by a crash is recognised and cut off the next
+ * time the journal is opened. Only a bad record at the very end is taken for a torn one; a journal
+ * damaged anywhere else is refused rather than cut back to the damage.
+ *
+ * <p>Records are collected in a buffer and only reach the disk with {@link #sync()}, which
+ * appending calls once {@code syncInterval} has passed since the last one. Callers that may go
+ * quiet for longer than that should call {@link #sync()} themselves.
+ */
+public class GameJournal implements Closeable {
+  static final int MAGIC = 0x4d4e4a4c;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 2 * Integer.BYTES;
+  static final int BUFFER_SIZE = 1 << 16;
+  static final int CHECKSUM_SIZE = Integer.BYTES;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+  private final CRC32C checksum = new CRC32C();
+  private final long syncIntervalNanos;
+  private ByteBuffer body = ByteBuffer.allocate(256);
+  private long lastSyncNanos = System.nanoTime();
+  private boolean unsynced;
+
+  private GameJournal(final FileChannel channel, final Duration syncInterval) {
+    this.channel = channel;
+    this.syncIntervalNanos = syncInterval.toNanos();
+  }
+
+  public static GameJournal open(final Path path) throws IOException {
+    return open(path, Duration.ofSeconds(1));
+  }
+
+  /**
+   * Opens the journal at {@code path} for appending, creating it if needed and dropping any torn
+   * record at its end.
+   *
+   * @throws IOException if the file is not a journal or a record before its end is damaged
+   */
+  public static GameJournal open(final Path path, final Duration syncInterval) throws IOException {
+    final FileChannel channel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      if (channel.size() == 0) {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).flip();
+        while (header.hasRemaining()) {
+          channel.write(header);
+        }
+        channel.force(true);
+      } else {
+        final long validLength = GameJournalReader.validLengthOf(channel);
+        if (validLength < channel.size()) {
+          channel.truncate(validLength);
+          channel.force(true);
+        }
+      }
+      channel.position(channel.size());
+      return new GameJournal(channel, syncInterval);
+    } catch (final IOException | RuntimeException exception) {
+      channel.close();
+      throw exception;
+    }
+  }
+
+  public synchronized void append(final GameRecord record) throws IOException {
+    final int maxSize = GameRecordCodec.maxSizeOf(record);
+    if (body.capacity() < maxSize) {
+      body = ByteBuffer.allocate(Integer.highestOneBit(maxSize) << 1);
+    }
+    body.clear();
+    GameRecordCodec.encode(record, body);
+    body.flip();
+    checksum.reset();
+    checksum.update(body.duplicate());
+
+    if (buffer.remaining() < 5 + body.remaining() + CHECKSUM_SIZE) {
+      flush();
+    }
+    GameRecordCodec.putVarint(buffer, body.remaining());
+    buffer.put(body);
+    buffer.putInt((int) checksum.getValue());
+    unsynced = true;
+
+    if (System.nanoTime() - lastSyncNanos >= syncIntervalNanos) {
+      sync();
+    }
+  }
+
+  /** Hands buffered records to the operating system without waiting for the disk. */
+  public synchronized void flush() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /** Writes buffered records and waits until they are on the disk. */
+  public synchronized void sync() throws IOException {
+    flush();
+    if (unsynced) {
+      channel.force(false);
+      unsynced = false;
+    }
+    lastSyncNanos = System.nanoTime();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    try {
+      sync();
+    } finally {
+      channel.close();
+    }
+  }
+}
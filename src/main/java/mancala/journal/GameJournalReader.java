@@ -0,0 +1,201 @@
+package mancala.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads a {@link GameJournal} front to back through a buffer, so files of any size are read with
+ * constant memory. Reading stops quietly at a record that is cut short or fails its checksum if
+ * that record runs into the end of the file, as one torn by a crash while appending does. A bad
+ * record with more of the file after it means the file was damaged, and reading it fails with an
+ * {@link IOException}, wrapped in an {@link UncheckedIOException} by {@link #hasNext()}.
+ */
+public class GameJournalReader implements Iterator<GameRecord>, Closeable {
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocate(GameJournal.BUFFER_SIZE);
+  private final CRC32C checksum = new CRC32C();
+  private long validLength = GameJournal.HEADER_SIZE;
+  private GameRecord next;
+  private boolean ended;
+
+  private GameJournalReader(final FileChannel channel) throws IOException {
+    this.channel = channel;
+    channel.position(0);
+    buffer.limit(0);
+    if (!fill(GameJournal.HEADER_SIZE)
+        || buffer.getInt() != GameJournal.MAGIC
+        || buffer.getInt() != GameJournal.VERSION) {
+      throw new IOException("Not a game journal file");
+    }
+  }
+
+  public static GameJournalReader open(final Path path) throws IOException {
+    final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new GameJournalReader(channel);
+    } catch (final IOException exception) {
+      channel.close();
+      throw exception;
+    }
+  }
+
+  static long validLengthOf(final FileChannel channel) throws IOException {
+    final GameJournalReader reader = new GameJournalReader(channel);
+    try {
+      while (reader.hasNext()) {
+        reader.next();
+      }
+    } catch (final UncheckedIOException exception) {
+      throw exception.getCause();
+    }
+    return reader.validLength;
+  }
+
+  /** @return how many bytes of the file hold the header and whole records read so far */
+  public long getValidLength() {
+    return validLength;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !ended) {
+      try {
+        next = read();
+      } catch (final IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+      ended = next == null;
+    }
+    return next != null;
+  }
+
+  @Override
+  public GameRecord next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final GameRecord record = next;
+    next = null;
+    return record;
+  }
+
+  private GameRecord read() throws IOException {
+    fill(5);
+    if (!buffer.hasRemaining()) {
+      return null;
+    }
+    final int start = buffer.position();
+    final int length;
+    try {
+      length = GameRecordCodec.getVarint(buffer);
+    } catch (final BufferUnderflowException exception) {
+      return null;
+    } catch (final IllegalArgumentException exception) {
+      return tornOrCorrupt(buffer.position() - start);
+    }
+    final int headerSize = buffer.position() - start;
+    final int frameSize = headerSize + length + GameJournal.CHECKSUM_SIZE;
+    if (length <= 0) {
+      return tornOrCorrupt(headerSize);
+    }
+    if (frameSize > buffer.capacity()) {
+      return tornOrCorrupt(frameSize);
+    }
+    buffer.position(start);
+    if (!fill(frameSize)) {
+      return null;
+    }
+
+    final int bodyStart = buffer.position() + headerSize;
+    final ByteBuffer body = buffer.duplicate();
+    body.position(bodyStart).limit(bodyStart + length);
+    checksum.reset();
+    checksum.update(body.duplicate());
+    if ((int) checksum.getValue() != buffer.getInt(bodyStart + length)) {
+      return tornOrCorrupt(frameSize);
+    }
+
+    final GameRecord record;
+    try {
+      record = GameRecordCodec.decode(body);
+    } catch (final BufferUnderflowException | IllegalArgumentException exception) {
+      return tornOrCorrupt(frameSize);
+    }
+    buffer.position(buffer.position() + frameSize);
+    validLength += frameSize;
+    return record;
+  }
+
+  /**
+   * @return {@code null} if the bad record of {@code frameSize} bytes reaches the end of the file
+   */
+  private GameRecord tornOrCorrupt(final int frameSize) throws IOException {
+    if (validLength + frameSize >= channel.size()) {
+      return null;
+    }
+    throw new IOException(String.format("Corrupt game journal record at byte %d", validLength));
+  }
+
+  /** @return whether at least {@code bytes} are buffered after reading as much as is needed */
+  private boolean fill(final int bytes) throws IOException {
+    if (buffer.remaining() >= bytes) {
+      return true;
+    }
+    buffer.compact();
+    while (buffer.position() < bytes) {
+      if (channel.read(buffer) <= 0) {
+        break;
+      }
+    }
+    buffer.flip();
+    return buffer.remaining() >= bytes;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 1) {
+      System.err.println("Usage: GameJournalReader <journal> [game [ply]]");
+      System.exit(1);
+    }
+    try (final GameJournalReader reader = open(Path.of(args[0]))) {
+      if (args.length == 1) {
+        long games = 0;
+        long finished = 0;
+        for (; reader.hasNext(); games++) {
+          finished += reader.next().isFinished() ? 1 : 0;
+        }
+        System.out.printf(
+            "%d games | %d finished | %.1f bytes/game%n",
+            games,
+            finished,
+            games == 0
+                ? 0.0
+                : (reader.getValidLength() - GameJournal.HEADER_SIZE) / (double) games);
+        return;
+      }
+
+      final long game = Long.parseLong(args[1]);
+      for (long i = 0; i < game; i++) {
+        reader.next();
+      }
+      final GameRecord record = reader.next();
+      System.out.println(
+          args.length > 2
+              ? record.getPositionAt(Integer.parseInt(args[2]))
+              : record.getFinalPosition());
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package mancala.journal;
+
+import java.util.Arrays;
+import mancala.PackedBoard;
+
+/**
+ * A game as its starting position and the player well chosen on every ply since. Any position in
+ * the game is found again by replaying the moves with {@link PackedBoard#applyMove(int)}.
+ */
+@lombok.Value
+public class GameRecord {
+  private final int[] startingWells;
+  private final int startingPlayerNumber;
+  private final byte[] moves;
+  private final boolean finished;
+
+  public GameRecord(
+      final int[] startingWells,
+      final int startingPlayerNumber,
+      final byte[] moves,
+      final boolean finished) {
+    for (final byte move : moves) {
+      if (move < 0 || move > 5) {
+        throw new IllegalArgumentException();
+      }
+    }
+    // Rejects impossible starting positions.
+    new PackedBoard(startingWells, startingPlayerNumber);
+    this.startingWells = startingWells.clone();
+    this.startingPlayerNumber = startingPlayerNumber;
+    this.moves = moves.clone();
+    this.finished = finished;
+  }
+
+  public int[] getStartingWells() {
+    return startingWells.clone();
+  }
+
+  public byte[] getMoves() {
+    return moves.clone();
+  }
+
+  public int getPlies() {
+    return moves.length;
+  }
+
+  public int getMove(final int ply) {
+    return moves[ply];
+  }
+
+  public boolean isStandardStart() {
+    return startingPlayerNumber == 1
+        && Arrays.equals(startingWells, GameRecorder.STANDARD_STARTING_WELLS);
+  }
+
+  public PackedBoard getStartingBoard() {
+    return new PackedBoard(startingWells, startingPlayerNumber);
+  }
+
+  /**
+   * Replays the first {@code ply} moves.
+   *
+   * @throws IllegalStateException if a recorded move is not legal in the position it was played in
+   */
+  public PackedBoard getPositionAt(final int ply) {
+    if (ply < 0 || ply > moves.length) {
+      throw new IndexOutOfBoundsException(ply);
+    }
+    final PackedBoard board = getStartingBoard();
+    for (int i = 0; i < ply; i++) {
+      if (board.isGameOver() || !board.isLegalMove(moves[i])) {
+        throw new IllegalStateException(String.format("Move %d of the record is illegal", i));
+      }
+      board.applyMove(moves[i]);
+    }
+    return board;
+  }
+
+  public PackedBoard getFinalPosition() {
+    return getPositionAt(moves.length);
+  }
+}
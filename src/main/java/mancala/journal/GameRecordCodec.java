@@ -0,0 +1,119 @@
+package mancala.journal;
+
+import java.nio.ByteBuffer;
+import mancala.PackedBoard;
+
+/**
+ * Binary form of a {@link GameRecord}: a flags byte, the starting wells as varints unless the game
+ * starts from the standard position, the number of plies as a varint and then 3 bits per move,
+ * least significant bits first. A typical game takes around 25 bytes.
+ */
+final class GameRecordCodec {
+  static final int MAX_PLIES = 1 << 16;
+
+  private static final int PLAYER_TWO_STARTS = 1;
+  private static final int FINISHED = 1 << 1;
+  private static final int CUSTOM_START = 1 << 2;
+  private static final int BITS_PER_MOVE = 3;
+
+  private GameRecordCodec() {}
+
+  static int maxSizeOf(final GameRecord record) {
+    return 1 + PackedBoard.SIZE * 5 + 5 + packedSizeOf(record.getPlies());
+  }
+
+  static void encode(final GameRecord record, final ByteBuffer out) {
+    if (record.getPlies() > MAX_PLIES) {
+      throw new IllegalArgumentException("Too many plies to record");
+    }
+    final boolean customStart = !record.isStandardStart();
+    out.put(
+        (byte)
+            ((record.getStartingPlayerNumber() == 2 ? PLAYER_TWO_STARTS : 0)
+                | (record.isFinished() ? FINISHED : 0)
+                | (customStart ? CUSTOM_START : 0)));
+    if (customStart) {
+      for (final int beads : record.getStartingWells()) {
+        putVarint(out, beads);
+      }
+    }
+
+    putVarint(out, record.getPlies());
+    int bits = 0;
+    int pending = 0;
+    for (int ply = 0; ply < record.getPlies(); ply++) {
+      pending |= record.getMove(ply) << bits;
+      bits += BITS_PER_MOVE;
+      if (bits >= Byte.SIZE) {
+        out.put((byte) pending);
+        pending >>>= Byte.SIZE;
+        bits -= Byte.SIZE;
+      }
+    }
+    if (bits > 0) {
+      out.put((byte) pending);
+    }
+  }
+
+  /** @throws IllegalArgumentException if the bytes do not hold a record */
+  static GameRecord decode(final ByteBuffer in) {
+    final int flags = in.get();
+    if ((flags & ~(PLAYER_TWO_STARTS | FINISHED | CUSTOM_START)) != 0) {
+      throw new IllegalArgumentException("Unknown record flags");
+    }
+    final int[] wells =
+        (flags & CUSTOM_START) != 0
+            ? new int[PackedBoard.SIZE]
+            : GameRecorder.STANDARD_STARTING_WELLS;
+    if ((flags & CUSTOM_START) != 0) {
+      for (int i = 0; i < PackedBoard.SIZE; i++) {
+        wells[i] = getVarint(in);
+      }
+    }
+
+    final int plies = getVarint(in);
+    if (plies < 0 || plies > MAX_PLIES || in.remaining() < packedSizeOf(plies)) {
+      throw new IllegalArgumentException("Bad ply count");
+    }
+    final byte[] moves = new byte[plies];
+    int bits = 0;
+    int pending = 0;
+    for (int ply = 0; ply < plies; ply++) {
+      if (bits < BITS_PER_MOVE) {
+        pending |= (in.get() & 0xFF) << bits;
+        bits += Byte.SIZE;
+      }
+      moves[ply] = (byte) (pending & 0x7);
+      pending >>>= BITS_PER_MOVE;
+      bits -= BITS_PER_MOVE;
+    }
+
+    return new GameRecord(
+        wells, (flags & PLAYER_TWO_STARTS) != 0 ? 2 : 1, moves, (flags & FINISHED) != 0);
+  }
+
+  static int packedSizeOf(final int plies) {
+    return (plies * BITS_PER_MOVE + Byte.SIZE - 1) / Byte.SIZE;
+  }
+
+  static void putVarint(final ByteBuffer out, final int value) {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      out.put((byte) ((remaining & 0x7F) | 0x80));
+      remaining >>>= 7;
+    }
+    out.put((byte) remaining);
+  }
+
+  static int getVarint(final ByteBuffer in) {
+    int value = 0;
+    for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+      final byte next = in.get();
+      value |= (next & 0x7F) << shift;
+      if (next >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Varint too long");
+  }
+}
@@ -0,0 +1,114 @@
+package mancala.journal;
+
+import java.util.Arrays;
+import mancala.Board;
+import mancala.Game;
+import mancala.Game.FinishedGame;
+import mancala.PackedBoard;
+import mancala.State.AwaitingPlayerChoice;
+import mancala.State.MakingMove;
+import mancala.Well;
+
+/**
+ * Follows a game through its transitions and notes the move behind each one. Animated games show
+ * the move in their {@link MakingMove} transitions, and the recorder takes it from there. Whole
+ * moves are not kept on {@link Game}, so whenever a player is asked to choose, or the game ends,
+ * the recorder looks for the move that takes its own copy of the position there.
+ *
+ * <p>Mid-game every legal move leads to a different position, so that search finds the move that
+ * was played. A move that ends the game can not always be told apart: two wells that land in the
+ * same empty well and capture the opponent's last beads leave the same swept board. The last move
+ * of a whole-move game is therefore only recovered up to an equal final position, and replaying the
+ * record always reaches the board the game finished on.
+ */
+public class GameRecorder {
+  static final int[] STANDARD_STARTING_WELLS = wellsOf(Board.createStartingBoard());
+
+  private final int[] startingWells;
+  private final int startingPlayerNumber;
+  private final PackedBoard position;
+  private final PackedBoard candidate;
+  private byte[] moves = new byte[64];
+  private int plies;
+  private int playedMove = -1;
+  private boolean finished;
+
+  public GameRecorder(final Game game) {
+    this.startingWells = wellsOf(game.getBoard());
+    this.startingPlayerNumber = game.getState().getCurrentPlayer().getPlayerNumber();
+    this.position = new PackedBoard(startingWells, startingPlayerNumber);
+    this.candidate = position.copy();
+  }
+
+  /** @throws IllegalStateException if no single move leads from the last position to this one */
+  public void observe(final Game game) {
+    if (finished) {
+      return;
+    }
+    final boolean gameOver = game instanceof FinishedGame;
+    if (game.getState() instanceof MakingMove && playedMove == -1) {
+      playedMove = ((MakingMove) game.getState()).getMove().getWellIndex();
+    }
+    if (!gameOver && !(game.getState() instanceof AwaitingPlayerChoice)) {
+      return;
+    }
+
+    final int[] wells = wellsOf(game.getBoard());
+    final int playerNumber = game.getState().getCurrentPlayer().getPlayerNumber();
+    if (!gameOver && matches(position, wells, playerNumber)) {
+      return;
+    }
+
+    final int legalMoves = position.isGameOver() ? 0 : position.getLegalMoves();
+    for (int remaining = playedMove == -1 ? legalMoves : legalMoves & 1 << playedMove;
+        remaining != 0;
+        remaining &= remaining - 1) {
+      final int move = Integer.numberOfTrailingZeros(remaining);
+      candidate.copyFrom(position);
+      final int flags = candidate.applyMove(move);
+      if ((flags & PackedBoard.GAME_OVER) != 0) {
+        if (gameOver && matches(candidate, wells, candidate.getCurrentPlayerNumber())) {
+          record(move);
+          finished = true;
+          return;
+        }
+      } else if (!gameOver && matches(candidate, wells, playerNumber)) {
+        record(move);
+        return;
+      }
+    }
+    throw new IllegalStateException(
+        String.format("No move leads from%n%s%nto%n%s", position, game.getBoard()));
+  }
+
+  public GameRecord toRecord() {
+    return new GameRecord(
+        startingWells, startingPlayerNumber, Arrays.copyOf(moves, plies), finished);
+  }
+
+  private void record(final int move) {
+    if (plies == moves.length) {
+      moves = Arrays.copyOf(moves, plies * 2);
+    }
+    moves[plies++] = (byte) move;
+    position.copyFrom(candidate);
+    playedMove = -1;
+  }
+
+  private static boolean matches(
+      final PackedBoard board, final int[] wells, final int playerNumber) {
+    if (board.getCurrentPlayerNumber() != playerNumber) {
+      return false;
+    }
+    for (int i = 0; i < PackedBoard.SIZE; i++) {
+      if (board.getBeads(i) != wells[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int[] wellsOf(final Board board) {
+    return board.getWells().stream().mapToInt(Well::getNumberOfBeads).toArray();
+  }
+}
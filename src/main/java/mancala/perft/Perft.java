@@ -0,0 +1,119 @@
+package mancala.perft;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import mancala.PackedBoard;
+import one.util.streamex.StreamEx;
+
+/**
+ * Counts the positions reached after exactly {@code depth} plies, one ply being one move by
+ * whichever player is to move, so extra turns count as plies of their own. Lines that end the game
+ * earlier are not counted, as in chess perft.
+ */
+public final class Perft {
+  private static final int SEQUENTIAL_DEPTH = 6;
+
+  private Perft() {}
+
+  public static PerftResult perft(final PackedBoard board, final int depth) {
+    final long start = System.nanoTime();
+    return count(board, depth).withElapsedNanos(System.nanoTime() - start);
+  }
+
+  /** Splits the top plies into fork-join tasks and counts the last {@code 6} sequentially. */
+  public static PerftResult perft(
+      final PackedBoard board, final int depth, final ForkJoinPool pool) {
+    final long start = System.nanoTime();
+    return pool.invoke(new PerftTask(board.copy(), depth))
+        .withElapsedNanos(System.nanoTime() - start);
+  }
+
+  private static PerftResult count(final PackedBoard board, final int depth) {
+    if (depth < 0) {
+      throw new IllegalArgumentException();
+    }
+    final Counter counter = new Counter();
+    if (depth == 0) {
+      counter.nodes++;
+    } else if (!board.isGameOver()) {
+      final PackedBoard[] children = new PackedBoard[depth];
+      for (int i = 0; i < depth; i++) {
+        children[i] = board.copy();
+      }
+      counter.count(board, depth, children);
+    }
+    return counter.toResult(depth);
+  }
+
+  private static final class Counter {
+    private long nodes;
+    private long captures;
+    private long extraTurns;
+    private long gameOvers;
+
+    private void count(final PackedBoard board, final int depth, final PackedBoard[] children) {
+      final PackedBoard child = children[depth - 1];
+      for (int remaining = board.getLegalMoves(); remaining != 0; remaining &= remaining - 1) {
+        child.copyFrom(board);
+        final int flags = child.applyMove(Integer.numberOfTrailingZeros(remaining));
+
+        if (depth == 1) {
+          nodes++;
+          captures += (flags & PackedBoard.CAPTURE) != 0 ? 1 : 0;
+          extraTurns += (flags & PackedBoard.EXTRA_TURN) != 0 ? 1 : 0;
+          gameOvers += (flags & PackedBoard.GAME_OVER) != 0 ? 1 : 0;
+        } else if ((flags & PackedBoard.GAME_OVER) == 0) {
+          count(child, depth - 1, children);
+        }
+      }
+    }
+
+    private PerftResult toResult(final int depth) {
+      return new PerftResult(depth, nodes, captures, extraTurns, gameOvers, 0);
+    }
+  }
+
+  private static final class PerftTask extends RecursiveTask<PerftResult> {
+    private final PackedBoard board;
+    private final int depth;
+
+    private PerftTask(final PackedBoard board, final int depth) {
+      this.board = board;
+      this.depth = depth;
+    }
+
+    @Override
+    protected PerftResult compute() {
+      if (depth <= SEQUENTIAL_DEPTH || board.isGameOver()) {
+        return count(board, depth);
+      }
+
+      final StreamEx<PerftTask> subtasks =
+          StreamEx.iterate(board.getLegalMoves(), remaining -> remaining & (remaining - 1))
+              .takeWhile(remaining -> remaining != 0)
+              .map(
+                  remaining -> {
+                    final PackedBoard child = board.copy();
+                    child.applyMove(Integer.numberOfTrailingZeros(remaining));
+                    return new PerftTask(child, depth - 1);
+                  });
+      return StreamEx.of(invokeAll(subtasks.toList()))
+          .map(PerftTask::join)
+          .reduce(new Counter().toResult(depth), PerftResult::plus);
+    }
+  }
+
+  public static void main(final String[] args) {
+    if (args.length < 1) {
+      System.err.println("Usage: Perft <depth> [--parallel]");
+      System.exit(1);
+    }
+    final int depth = Integer.parseInt(args[0]);
+    final boolean parallel = StreamEx.of(args).has("--parallel");
+
+    for (int i = 1; i <= depth; i++) {
+      final PackedBoard board = PackedBoard.createStartingBoard();
+      System.out.println(parallel ? perft(board, i, ForkJoinPool.commonPool()) : perft(board, i));
+    }
+  }
+}
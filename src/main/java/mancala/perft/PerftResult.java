@@ -0,0 +1,40 @@
+package mancala.perft;
+
+/**
+ * Counts of the positions reached after exactly the requested number of plies, broken down by what
+ * the last move did.
+ */
+@lombok.Value
+public class PerftResult {
+  private final int depth;
+  private final long nodes;
+  private final long captures;
+  private final long extraTurns;
+  private final long gameOvers;
+  private final long elapsedNanos;
+
+  public long getNodesPerSecond() {
+    return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000L / elapsedNanos;
+  }
+
+  PerftResult plus(final PerftResult other) {
+    return new PerftResult(
+        depth,
+        nodes + other.nodes,
+        captures + other.captures,
+        extraTurns + other.extraTurns,
+        gameOvers + other.gameOvers,
+        elapsedNanos);
+  }
+
+  PerftResult withElapsedNanos(final long elapsedNanos) {
+    return new PerftResult(depth, nodes, captures, extraTurns, gameOvers, elapsedNanos);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "Depth %d | %d nodes | %d captures | %d extra turns | %d game overs | %d nodes/s",
+        depth, nodes, captures, extraTurns, gameOvers, getNodesPerSecond());
+  }
+}
@@ -3,6 +3,11 @@ package mancala.player;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import mancala.Game;
 import mancala.Move;
 import mancala.Move.IllegalMoveException;
@@ -10,6 +15,13 @@ import mancala.Player;
 
 public class ConsolePlayer extends Player implements Closeable {
   private final Scanner sc;
+  private final ExecutorService reader =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            final Thread thread = new Thread(runnable, "console-player");
+            thread.setDaemon(true);
+            return thread;
+          });
 
   public ConsolePlayer(final int playerNumber) {
     super(playerNumber);
@@ -22,6 +34,20 @@ public class ConsolePlayer extends Player implements Closeable {
     return new Move(game.getBoard(), this, Integer.parseInt(sc.nextLine().trim()));
   }
 
+  /** Waits for the console on a thread of its own, so the game loop is not held meanwhile. */
+  @Override
+  public CompletionStage<Move> makeMoveAsync(final Game game) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return makeMove(game);
+          } catch (final IllegalMoveException exception) {
+            throw new CompletionException(exception);
+          }
+        },
+        reader);
+  }
+
   @Override
   public void inform(final Exception exception) {
     System.err.printf("Should not have happened: %s%n", exception.getMessage());
@@ -29,6 +55,7 @@ public class ConsolePlayer extends Player implements Closeable {
 
   @Override
   public void close() throws IOException {
+    reader.shutdownNow();
     sc.close();
   }
 }
@@ -0,0 +1,72 @@
+package mancala.player;
+
+import java.io.Closeable;
+import java.time.Duration;
+import mancala.Game;
+import mancala.Move;
+import mancala.Move.IllegalMoveException;
+import mancala.PackedBoard;
+import mancala.Player;
+import mancala.search.MonteCarloResult;
+import mancala.search.MonteCarloTreeSearch;
+
+public class MonteCarloPlayer extends Player implements Closeable {
+  private final Duration budget;
+  private final long maxPlayouts;
+  private final MonteCarloTreeSearch search;
+
+  @lombok.Getter private MonteCarloResult lastResult;
+
+  public MonteCarloPlayer(final int playerNumber) {
+    this(
+        playerNumber,
+        Runtime.getRuntime().availableProcessors(),
+        Duration.ofMillis(100),
+        Long.MAX_VALUE,
+        System.nanoTime());
+  }
+
+  public MonteCarloPlayer(
+      final int playerNumber,
+      final int threads,
+      final Duration budget,
+      final long maxPlayouts,
+      final long seed) {
+    this(
+        playerNumber,
+        threads,
+        budget,
+        maxPlayouts,
+        seed,
+        MonteCarloTreeSearch.DEFAULT_SIZE_IN_MEGABYTES);
+  }
+
+  public MonteCarloPlayer(
+      final int playerNumber,
+      final int threads,
+      final Duration budget,
+      final long maxPlayouts,
+      final long seed,
+      final int sizeInMegabytes) {
+    super(playerNumber);
+    this.budget = budget;
+    this.maxPlayouts = maxPlayouts;
+    this.search = new MonteCarloTreeSearch(threads, seed, sizeInMegabytes);
+  }
+
+  @Override
+  public Move makeMove(final Game game) throws IllegalMoveException {
+    lastResult = search.search(PackedBoard.of(game.getBoard(), this), budget, maxPlayouts);
+    return new Move(game.getBoard(), this, lastResult.getPlayerWellIndex());
+  }
+
+  @Override
+  public void inform(final Exception exception) {
+    System.err.printf("Should not have happened: %s%n", exception.getMessage());
+  }
+
+  @Override
+  public void close() {
+    search.close();
+  }
+}
@@ -0,0 +1,34 @@
+package mancala.player;
+
+import java.util.OptionalInt;
+import mancala.Game;
+import mancala.Move;
+import mancala.Move.IllegalMoveException;
+import mancala.PackedBoard;
+import mancala.Player;
+import mancala.book.OpeningBook;
+
+public class OpeningBookPlayer extends Player {
+  private final Player player;
+  private final OpeningBook book;
+
+  public OpeningBookPlayer(final Player player, final OpeningBook book) {
+    super(player.getPlayerNumber());
+    this.player = player;
+    this.book = book;
+  }
+
+  @Override
+  public Move makeMove(final Game game) throws IllegalMoveException {
+    final OptionalInt move = book.getMove(PackedBoard.of(game.getBoard(), this));
+    if (move.isPresent()) {
+      return new Move(game.getBoard(), this, move.getAsInt());
+    }
+    return player.makeMove(game);
+  }
+
+  @Override
+  public void inform(final Exception exception) {
+    player.inform(exception);
+  }
+}
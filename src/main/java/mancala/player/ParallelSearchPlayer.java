@@ -0,0 +1,63 @@
+package mancala.player;
+
+import java.io.Closeable;
+import java.time.Duration;
+import mancala.Game;
+import mancala.Move;
+import mancala.Move.IllegalMoveException;
+import mancala.PackedBoard;
+import mancala.Player;
+import mancala.search.AlphaBetaSearch;
+import mancala.search.Evaluation;
+import mancala.search.LazySmpSearch;
+import mancala.search.SearchResult;
+import mancala.search.TranspositionTable;
+
+public class ParallelSearchPlayer extends Player implements Closeable {
+  private final Duration budget;
+  private final int maxDepth;
+  private final LazySmpSearch search;
+
+  @lombok.Getter private SearchResult lastResult;
+
+  public ParallelSearchPlayer(final int playerNumber) {
+    this(
+        playerNumber,
+        Runtime.getRuntime().availableProcessors(),
+        Duration.ofMillis(100),
+        AlphaBetaSearch.MAX_DEPTH,
+        new TranspositionTable(64));
+  }
+
+  public ParallelSearchPlayer(
+      final int playerNumber,
+      final int threads,
+      final Duration budget,
+      final int maxDepth,
+      final TranspositionTable table) {
+    super(playerNumber);
+    this.budget = budget;
+    this.maxDepth = maxDepth;
+    this.search = new LazySmpSearch(threads, Evaluation.STORE_DIFFERENCE, table);
+  }
+
+  public TranspositionTable getTable() {
+    return search.getTable();
+  }
+
+  @Override
+  public Move makeMove(final Game game) throws IllegalMoveException {
+    lastResult = search.search(PackedBoard.of(game.getBoard(), this), budget, maxDepth);
+    return new Move(game.getBoard(), this, lastResult.getPlayerWellIndex());
+  }
+
+  @Override
+  public void inform(final Exception exception) {
+    System.err.printf("Should not have happened: %s%n", exception.getMessage());
+  }
+
+  @Override
+  public void close() {
+    search.close();
+  }
+}
@@ -1,16 +1,11 @@
 package mancala.player;
 
-import static io.vavr.Predicates.not;
-
-import java.util.Optional;
-import java.util.OptionalInt;
-import java.util.function.Supplier;
+import mancala.Board;
 import mancala.Game;
 import mancala.Move;
 import mancala.Move.IllegalMoveException;
 import mancala.Player;
-import mancala.Well.PlayerWell;
-import one.util.streamex.EntryStream;
+import mancala.Sowing;
 
 public class PiratePlayer extends Player {
   public PiratePlayer(final int playerNumber) {
@@ -19,72 +14,74 @@ public class PiratePlayer extends Player {
 
   @Override
   public Move makeMove(final Game game) throws IllegalMoveException {
-    final int i =
-        findCaptureMove(game)
-            .or(findExtraTurnMove(game))
-            .or(usePenultimateWellIfFull(game))
-            .or(findLowestNumberOfBeadsMove(game))
-            .orElse(-1);
+    final Board board = game.getBoard();
+    final int choices = board.getLegalMoves(this);
 
-    return new Move(game.getBoard(), this, i);
-  }
+    int i = findCaptureMove(board, choices);
+    if (i == -1) {
+      i = findExtraTurnMove(board, choices);
+    }
+    if (i == -1) {
+      i = usePenultimateWellIfFull(choices);
+    }
+    if (i == -1) {
+      i = findLowestNumberOfBeadsMove(board, choices);
+    }
 
-  private Optional<Integer> findCaptureMove(final Game game) {
-    return getChoices(game)
-        .mapValues(PlayerWell::getNumberOfBeads)
-        .filterKeyValue(
-            (index, beads) -> {
-              if (beads > 14) {
-                return false;
-              } else if (beads == 14) {
-                return true;
-              }
-              final int lastBoardWellIndex = (index + beads + getPlayerNumber() == 1 ? 0 : 7) % 14;
-              if (game.getBoard().wellBelongsTo(this, lastBoardWellIndex)
-                  && (index == lastBoardWellIndex
-                      || game.getBoard().getWells().get(lastBoardWellIndex).isEmpty())
-                  && !game.getBoard().getOppositeWell(lastBoardWellIndex).isEmpty()) {
-                return true;
-              }
-              return false;
-            })
-        .keys()
-        .findFirst();
+    return new Move(board, this, i);
   }
 
-  private Supplier<Optional<Integer>> findExtraTurnMove(final Game game) {
-    return () ->
-        getChoices(game)
-            .mapValues(PlayerWell::getNumberOfBeads)
-            .filterKeyValue((index, beads) -> beads == (6 - index))
-            .keys()
-            .findAny();
+  private int findCaptureMove(final Board board, final int choices) {
+    for (int remaining = choices; remaining != 0; remaining &= remaining - 1) {
+      final int index = Integer.numberOfTrailingZeros(remaining);
+      final int beads = board.getWellFor(this, index).getNumberOfBeads();
+      final int sowing = Sowing.of(getPlayerNumber(), index, beads);
+      final int lastBoardWellIndex = Sowing.landingIndexOf(sowing);
+      final int laps = Sowing.lapsOf(sowing);
+      if (lastBoardWellIndex == board.getBoardWellIndexFor(this, 6)
+          || !board.wellBelongsTo(this, lastBoardWellIndex)) {
+        continue;
+      }
+      final boolean landsInEmptyWell =
+          lastBoardWellIndex == board.getBoardWellIndexFor(this, index)
+              ? laps == 1
+              : laps == 0 && board.getWells().get(lastBoardWellIndex).isEmpty();
+      if (landsInEmptyWell
+          && (Sowing.opponentHomeBasePassesOf(sowing) > 0
+              || !board.getOppositeWell(lastBoardWellIndex).isEmpty())) {
+        return index;
+      }
+    }
+    return -1;
   }
 
-  private Supplier<Optional<Integer>> usePenultimateWellIfFull(final Game game) {
-    return () -> game.getBoard().getWellFor(this, 4).isEmpty() ? Optional.empty() : Optional.of(4);
+  private int findExtraTurnMove(final Board board, final int choices) {
+    for (int remaining = choices; remaining != 0; remaining &= remaining - 1) {
+      final int index = Integer.numberOfTrailingZeros(remaining);
+      final int beads = board.getWellFor(this, index).getNumberOfBeads();
+      if (Sowing.landingIndexOf(Sowing.of(getPlayerNumber(), index, beads))
+          == board.getBoardWellIndexFor(this, 6)) {
+        return index;
+      }
+    }
+    return -1;
   }
 
-  private Supplier<Optional<Integer>> findLowestNumberOfBeadsMove(final Game game) {
-    return () -> {
-      final OptionalInt min =
-          getChoices(game).values().mapToInt(PlayerWell::getNumberOfBeads).min();
-      if (min.isPresent()) {
-        return getChoices(game)
-            .filterValues(well -> well.getNumberOfBeads() == min.getAsInt())
-            .keys()
-            .reverseSorted()
-            .findFirst();
-      } else {
-        return Optional.empty();
-      }
-    };
+  private int usePenultimateWellIfFull(final int choices) {
+    return Move.isLegal(choices, 4) ? 4 : -1;
   }
 
-  private EntryStream<Integer, PlayerWell> getChoices(final Game game) {
-    return EntryStream.of(game.getBoard().getPlayerWells(this))
-        .selectValues(PlayerWell.class)
-        .filterValues(not(PlayerWell::isEmpty));
+  private int findLowestNumberOfBeadsMove(final Board board, final int choices) {
+    int lowest = -1;
+    for (int index = 5; index >= 0; index--) {
+      if (Move.isLegal(choices, index)
+          && (lowest == -1
+              || board.getWellFor(this, index).getNumberOfBeads()
+                  < board.getWellFor(this, lowest).getNumberOfBeads())) {
+        lowest = index;
+      }
+    }
+    return lowest;
   }
 
   @Override
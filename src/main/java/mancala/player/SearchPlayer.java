@@ -0,0 +1,39 @@
+package mancala.player;
+
+import java.time.Duration;
+import mancala.Game;
+import mancala.Move;
+import mancala.Move.IllegalMoveException;
+import mancala.PackedBoard;
+import mancala.Player;
+import mancala.search.AlphaBetaSearch;
+import mancala.search.SearchResult;
+
+public class SearchPlayer extends Player {
+  private final Duration budget;
+  private final int maxDepth;
+  private final AlphaBetaSearch search = new AlphaBetaSearch();
+
+  @lombok.Getter private SearchResult lastResult;
+
+  public SearchPlayer(final int playerNumber) {
+    this(playerNumber, Duration.ofMillis(100), AlphaBetaSearch.MAX_DEPTH);
+  }
+
+  public SearchPlayer(final int playerNumber, final Duration budget, final int maxDepth) {
+    super(playerNumber);
+    this.budget = budget;
+    this.maxDepth = maxDepth;
+  }
+
+  @Override
+  public Move makeMove(final Game game) throws IllegalMoveException {
+    lastResult = search.search(PackedBoard.of(game.getBoard(), this), budget, maxDepth);
+    return new Move(game.getBoard(), this, lastResult.getPlayerWellIndex());
+  }
+
+  @Override
+  public void inform(final Exception exception) {
+    System.err.printf("Should not have happened: %s%n", exception.getMessage());
+  }
+}
@@ -0,0 +1,35 @@
+package mancala.player;
+
+import java.util.OptionalInt;
+import mancala.Game;
+import mancala.Move;
+import mancala.Move.IllegalMoveException;
+import mancala.PackedBoard;
+import mancala.Player;
+import mancala.solver.SolutionStore;
+
+/** Plays the proven best move wherever the store has solved the position, and asks a fallback. */
+public class SolutionPlayer extends Player {
+  private final Player player;
+  private final SolutionStore store;
+
+  public SolutionPlayer(final Player player, final SolutionStore store) {
+    super(player.getPlayerNumber());
+    this.player = player;
+    this.store = store;
+  }
+
+  @Override
+  public Move makeMove(final Game game) throws IllegalMoveException {
+    final OptionalInt move = store.getMove(PackedBoard.of(game.getBoard(), this));
+    if (move.isPresent()) {
+      return new Move(game.getBoard(), this, move.getAsInt());
+    }
+    return player.makeMove(game);
+  }
+
+  @Override
+  public void inform(final Exception exception) {
+    player.inform(exception);
+  }
+}
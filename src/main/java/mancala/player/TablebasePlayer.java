@@ -0,0 +1,33 @@
+package mancala.player;
+
+import mancala.Game;
+import mancala.Move;
+import mancala.Move.IllegalMoveException;
+import mancala.PackedBoard;
+import mancala.Player;
+import mancala.tablebase.Tablebase;
+
+public class TablebasePlayer extends Player {
+  private final Player player;
+  private final Tablebase tablebase;
+
+  public TablebasePlayer(final Player player, final Tablebase tablebase) {
+    super(player.getPlayerNumber());
+    this.player = player;
+    this.tablebase = tablebase;
+  }
+
+  @Override
+  public Move makeMove(final Game game) throws IllegalMoveException {
+    final PackedBoard board = PackedBoard.of(game.getBoard(), this);
+    if (tablebase.covers(board)) {
+      return new Move(game.getBoard(), this, tablebase.getBestMove(board));
+    }
+    return player.makeMove(game);
+  }
+
+  @Override
+  public void inform(final Exception exception) {
+    player.inform(exception);
+  }
+}
@@ -0,0 +1,56 @@
+package mancala.player;
+
+import java.time.Duration;
+import mancala.Game;
+import mancala.Move;
+import mancala.Move.IllegalMoveException;
+import mancala.PackedBoard;
+import mancala.Player;
+import mancala.search.AlphaBetaSearch;
+import mancala.search.Evaluation;
+import mancala.search.SearchResult;
+import mancala.search.TranspositionTable;
+
+public class TranspositionSearchPlayer extends Player {
+  private static final Duration UNLIMITED = Duration.ofDays(1);
+
+  private final int depth;
+  @lombok.Getter private final TranspositionTable table;
+  private final AlphaBetaSearch search;
+
+  @lombok.Getter private SearchResult lastResult;
+
+  public TranspositionSearchPlayer(final int playerNumber, final int depth) {
+    this(playerNumber, depth, new TranspositionTable(16));
+  }
+
+  public TranspositionSearchPlayer(
+      final int playerNumber, final int depth, final TranspositionTable table) {
+    this(playerNumber, depth, table, Evaluation.STORE_DIFFERENCE);
+  }
+
+  public TranspositionSearchPlayer(
+      final int playerNumber,
+      final int depth,
+      final TranspositionTable table,
+      final Evaluation evaluation) {
+    super(playerNumber);
+    if (depth < 1 || depth > AlphaBetaSearch.MAX_DEPTH) {
+      throw new IllegalArgumentException();
+    }
+    this.depth = depth;
+    this.table = table;
+    this.search = new AlphaBetaSearch(evaluation, table);
+  }
+
+  @Override
+  public Move makeMove(final Game game) throws IllegalMoveException {
+    lastResult = search.search(PackedBoard.of(game.getBoard(), this), UNLIMITED, depth);
+    return new Move(game.getBoard(), this, lastResult.getPlayerWellIndex());
+  }
+
+  @Override
+  public void inform(final Exception exception) {
+    System.err.printf("Should not have happened: %s%n", exception.getMessage());
+  }
+}
@@ -0,0 +1,266 @@
+package mancala.search;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import mancala.PackedBoard;
+import mancala.tablebase.Tablebase;
+
+/**
+ * Iterative deepening negamax with alpha-beta pruning over {@link PackedBoard}. A move that earns
+ * an extra turn keeps the same player to move, so its score is not negated and the window is passed
+ * down unchanged. Instances reuse their per-ply boards and are not thread-safe.
+ *
+ * <p>With a {@link TranspositionTable}, stored bounds cut nodes short and stored best moves are
+ * searched first. Subtrees searched to the end of the game without hitting the depth limit are
+ * stored at {@link #MAX_DEPTH} since their score holds at any depth. Entries are keyed on {@link
+ * PackedBoard#getCanonicalHash()}, so a position and its mirror share one.
+ *
+ * <p>Several instances may share one table, as {@link LazySmpSearch} does. A non-zero {@code
+ * helperIndex} rotates the order in which equally promising moves are tried by an amount drawn
+ * afresh for every ply from a seed of the helper's own, so that helpers spread out over the tree
+ * instead of repeating each other's work.
+ */
+public class AlphaBetaSearch {
+  public static final int MAX_DEPTH = 64;
+  public static final int INFINITY = 1_000_000;
+
+  private static final int NODES_BETWEEN_CLOCK_CHECKS = 1024;
+  private static final long MIX = 0x9e3779b97f4a7c15L;
+
+  private final Evaluation evaluation;
+  private final TranspositionTable table;
+  private final int[] moveOffsets = new int[MAX_DEPTH];
+  private final Tablebase tablebase;
+  private final PackedBoard root = PackedBoard.createStartingBoard();
+  private final PackedBoard[][] children = new PackedBoard[MAX_DEPTH][6];
+  private final int[][] order = new int[MAX_DEPTH][6];
+  private final int[][] priorities = new int[MAX_DEPTH][6];
+
+  private long nodes;
+  private long deadline;
+  private AtomicBoolean stopSignal;
+  private boolean aborted;
+  private boolean depthCutoff;
+  private int rootBestMove;
+
+  public AlphaBetaSearch(
+      final Evaluation evaluation,
+      final TranspositionTable table,
+      final int helperIndex,
+      final Tablebase tablebase) {
+    this.evaluation = evaluation;
+    this.table = table;
+    this.tablebase = tablebase;
+    for (int ply = 0; ply < MAX_DEPTH; ply++) {
+      moveOffsets[ply] = moveOffsetOf(helperIndex, ply);
+      for (int i = 0; i < 6; i++) {
+        children[ply][i] = PackedBoard.createStartingBoard();
+      }
+    }
+  }
+
+  public AlphaBetaSearch(
+      final Evaluation evaluation, final TranspositionTable table, final int helperIndex) {
+    this(evaluation, table, helperIndex, null);
+  }
+
+  public AlphaBetaSearch(final Evaluation evaluation, final TranspositionTable table) {
+    this(evaluation, table, 0);
+  }
+
+  public AlphaBetaSearch(final Evaluation evaluation) {
+    this(evaluation, null);
+  }
+
+  public AlphaBetaSearch() {
+    this(Evaluation.STORE_DIFFERENCE);
+  }
+
+  public SearchResult search(final PackedBoard board, final Duration budget, final int maxDepth) {
+    return search(board, budget, maxDepth, new AtomicBoolean());
+  }
+
+  /** Searches until the budget or depth runs out, or until {@code stopSignal} is set. */
+  public SearchResult search(
+      final PackedBoard board,
+      final Duration budget,
+      final int maxDepth,
+      final AtomicBoolean stopSignal) {
+    if (board.isGameOver()) {
+      throw new IllegalArgumentException();
+    }
+    final long start = System.nanoTime();
+    deadline = start + budget.toNanos();
+    nodes = 0;
+    aborted = false;
+    this.stopSignal = stopSignal;
+    root.copyFrom(board);
+
+    int bestMove = -1;
+    int bestScore = 0;
+    int reachedDepth = 0;
+    for (int depth = 1; depth <= Math.min(maxDepth, MAX_DEPTH); depth++) {
+      depthCutoff = false;
+      final int score = negamax(root, depth, 0, -INFINITY, INFINITY, bestMove);
+      if (aborted) {
+        break;
+      }
+      bestMove = rootBestMove;
+      bestScore = score;
+      reachedDepth = depth;
+      if (!depthCutoff) {
+        break;
+      }
+    }
+
+    return new SearchResult(
+        bestMove == -1 ? rootBestMove : bestMove,
+        bestScore,
+        reachedDepth,
+        nodes,
+        System.nanoTime() - start);
+  }
+
+  private int negamax(
+      final PackedBoard board,
+      final int depth,
+      final int ply,
+      final int alpha,
+      final int beta,
+      final int principalMove) {
+    nodes++;
+    if (nodes % NODES_BETWEEN_CLOCK_CHECKS == 0
+        && (System.nanoTime() - deadline > 0 || stopSignal.get())) {
+      aborted = true;
+      return 0;
+    }
+    if (board.isGameOver()) {
+      return storeDifference(board);
+    }
+    if (ply > 0 && tablebase != null && tablebase.covers(board)) {
+      return storeDifference(board) + tablebase.probe(board);
+    }
+    if (depth == 0) {
+      depthCutoff = true;
+      return evaluation.evaluate(board);
+    }
+
+    int tableMove = principalMove;
+    if (table != null) {
+      final long entry = table.probe(board.getCanonicalHash());
+      if (entry != 0) {
+        if (tableMove == -1) {
+          tableMove = TranspositionTable.moveOf(entry);
+        }
+        if (ply > 0 && TranspositionTable.depthOf(entry) >= depth) {
+          final int score = TranspositionTable.scoreOf(entry);
+          final int bound = TranspositionTable.boundOf(entry);
+          if (bound == TranspositionTable.EXACT
+              || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+              || (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+            depthCutoff |= TranspositionTable.depthOf(entry) < MAX_DEPTH;
+            return score;
+          }
+        }
+      }
+    }
+
+    final boolean depthCutoffBefore = depthCutoff;
+    depthCutoff = false;
+
+    final int count = orderChildren(board, ply, tableMove);
+    if (ply == 0) {
+      rootBestMove = order[0][0];
+    }
+
+    int lowerBound = alpha;
+    int best = -INFINITY;
+    int bestMove = order[ply][0];
+    for (int i = 0; i < count; i++) {
+      final int move = order[ply][i];
+      final PackedBoard child = children[ply][move];
+      final int score =
+          child.getCurrentPlayerNumber() == board.getCurrentPlayerNumber()
+              ? negamax(child, depth - 1, ply + 1, lowerBound, beta, -1)
+              : -negamax(child, depth - 1, ply + 1, -beta, -lowerBound, -1);
+      if (aborted) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestMove = move;
+        if (ply == 0) {
+          rootBestMove = move;
+        }
+      }
+      if (best > lowerBound) {
+        lowerBound = best;
+      }
+      if (lowerBound >= beta) {
+        break;
+      }
+    }
+
+    if (table != null) {
+      table.store(
+          board.getCanonicalHash(),
+          depthCutoff ? depth : MAX_DEPTH,
+          best <= alpha
+              ? TranspositionTable.UPPER_BOUND
+              : best >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT,
+          bestMove,
+          best);
+    }
+    depthCutoff |= depthCutoffBefore;
+    return best;
+  }
+
+  /**
+   * Plays every legal move into the ply's child boards and orders them the way {@link
+   * mancala.player.PiratePlayer} prioritises its choices: captures first, then extra turns, then
+   * the rest. The principal move from the previous iteration, if any, goes before all of them.
+   */
+  private int orderChildren(final PackedBoard board, final int ply, final int principalMove) {
+    final int legalMoves = board.getLegalMoves();
+    int count = 0;
+    for (int k = 0; k < 6; k++) {
+      final int move = (k + moveOffsets[ply]) % 6;
+      if ((legalMoves & (1 << move)) == 0) {
+        continue;
+      }
+      final PackedBoard child = children[ply][move];
+      child.copyFrom(board);
+      final int flags = child.applyMove(move);
+      final int priority =
+          move == principalMove
+              ? 0
+              : (flags & PackedBoard.CAPTURE) != 0
+                  ? 1
+                  : (flags & PackedBoard.EXTRA_TURN) != 0 ? 2 : 3;
+
+      int i = count++;
+      while (i > 0 && priorities[ply][i - 1] > priority) {
+        order[ply][i] = order[ply][i - 1];
+        priorities[ply][i] = priorities[ply][i - 1];
+        i--;
+      }
+      order[ply][i] = move;
+      priorities[ply][i] = priority;
+    }
+    return count;
+  }
+
+  /**
+   * @return how far a search with the given {@code helperIndex} rotates the order of equally
+   *     promising moves at {@code ply}; always {@code 0} for the main search
+   */
+  public static int moveOffsetOf(final int helperIndex, final int ply) {
+    return helperIndex == 0 ? 0 : new SplittableRandom(helperIndex * MIX + ply).nextInt(6);
+  }
+
+  private static int storeDifference(final PackedBoard board) {
+    return board.getHomeBaseBeads(board.getCurrentPlayerNumber())
+        - board.getHomeBaseBeads(3 - board.getCurrentPlayerNumber());
+  }
+}
@@ -0,0 +1,14 @@
+package mancala.search;
+
+import mancala.PackedBoard;
+
+@FunctionalInterface
+public interface Evaluation {
+  public static final Evaluation STORE_DIFFERENCE =
+      board ->
+          board.getHomeBaseBeads(board.getCurrentPlayerNumber())
+              - board.getHomeBaseBeads(3 - board.getCurrentPlayerNumber());
+
+  /** Scores a position from the point of view of the player to move. */
+  public int evaluate(final PackedBoard board);
+}
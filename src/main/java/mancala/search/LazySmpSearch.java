@@ -0,0 +1,95 @@
+package mancala.search;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import mancala.PackedBoard;
+import one.util.streamex.IntStreamEx;
+
+/**
+ * Lazy SMP: every thread runs its own {@link AlphaBetaSearch} from the root over one shared {@link
+ * TranspositionTable}. Helpers on odd indexes aim one ply deeper than the main search, and all of
+ * them try moves in a different order, so the table fills with results the main search can reuse.
+ * The main search's answer is returned once it finishes and the helpers are stopped.
+ */
+public class LazySmpSearch implements Closeable {
+  private final TranspositionTable table;
+  private final AlphaBetaSearch[] searches;
+  private final ExecutorService helpers;
+
+  public LazySmpSearch(
+      final int threads, final Evaluation evaluation, final TranspositionTable table) {
+    if (threads < 1) {
+      throw new IllegalArgumentException();
+    }
+    this.table = table;
+    this.searches =
+        IntStreamEx.range(threads)
+            .mapToObj(i -> new AlphaBetaSearch(evaluation, table, i))
+            .toArray(AlphaBetaSearch[]::new);
+    this.helpers =
+        Executors.newFixedThreadPool(
+            Math.max(1, threads - 1),
+            runnable -> {
+              final Thread thread = new Thread(runnable, "lazy-smp-helper");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  public int getThreads() {
+    return searches.length;
+  }
+
+  public TranspositionTable getTable() {
+    return table;
+  }
+
+  public SearchResult search(final PackedBoard board, final Duration budget, final int maxDepth) {
+    final long start = System.nanoTime();
+    final AtomicBoolean stopSignal = new AtomicBoolean();
+
+    final List<Future<SearchResult>> helperResults =
+        IntStreamEx.range(1, searches.length)
+            .mapToObj(
+                i -> {
+                  final PackedBoard helperBoard = board.copy();
+                  final int helperDepth = Math.min(maxDepth + i % 2, AlphaBetaSearch.MAX_DEPTH);
+                  return helpers.submit(
+                      () -> searches[i].search(helperBoard, budget, helperDepth, stopSignal));
+                })
+            .toList();
+
+    final SearchResult result = searches[0].search(board, budget, maxDepth, stopSignal);
+    stopSignal.set(true);
+
+    long nodes = result.getNodes();
+    for (final Future<SearchResult> helperResult : helperResults) {
+      try {
+        nodes += helperResult.get().getNodes();
+      } catch (final InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(exception);
+      } catch (final ExecutionException exception) {
+        throw new IllegalStateException(exception.getCause());
+      }
+    }
+
+    return new SearchResult(
+        result.getPlayerWellIndex(),
+        result.getScore(),
+        result.getDepth(),
+        nodes,
+        System.nanoTime() - start);
+  }
+
+  @Override
+  public void close() {
+    helpers.shutdownNow();
+  }
+}
@@ -0,0 +1,20 @@
+package mancala.search;
+
+@lombok.Value
+public class MonteCarloResult {
+  private final int playerWellIndex;
+  private final long playouts;
+  private final long treeSize;
+  private final long elapsedNanos;
+
+  public long getPlayoutsPerSecond() {
+    return elapsedNanos == 0 ? 0 : playouts * 1_000_000_000L / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "Well %d | %d playouts | %d nodes | %d playouts/s",
+        playerWellIndex, playouts, treeSize, getPlayoutsPerSecond());
+  }
+}
@@ -0,0 +1,308 @@
+package mancala.search;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import mancala.PackedBoard;
+import one.util.streamex.IntStreamEx;
+
+/**
+ * Root-parallel UCT: every thread grows its own tree from the same position with random playouts
+ * and its own {@link SplittableRandom}, and the visit counts of the root moves are summed to pick a
+ * move. Each tree is kept between searches, so when the next position is found a few plies below
+ * the previous root its subtree carries over.
+ *
+ * <p>The trees of all threads share one memory budget, split evenly, so adding threads does not
+ * grow the heap the search needs. A tree that reaches its share stops adding nodes and keeps
+ * refining the statistics of those it has.
+ */
+public class MonteCarloTreeSearch implements Closeable {
+  public static final int DEFAULT_SIZE_IN_MEGABYTES = 256;
+
+  /** Rough heap taken by a node with compressed references, counting its array of children. */
+  static final int NODE_SIZE = 80;
+
+  private static final double EXPLORATION = Math.sqrt(2);
+  private static final int REUSE_DEPTH = 8;
+
+  private final Tree[] trees;
+  private final ExecutorService helpers;
+
+  public MonteCarloTreeSearch(final int threads, final long seed) {
+    this(threads, seed, DEFAULT_SIZE_IN_MEGABYTES);
+  }
+
+  /** @param sizeInMegabytes heap the trees of all threads may take together */
+  public MonteCarloTreeSearch(final int threads, final long seed, final int sizeInMegabytes) {
+    if (threads < 1 || sizeInMegabytes <= 0) {
+      throw new IllegalArgumentException();
+    }
+    final long maxTreeSize = Math.max(1, sizeInMegabytes * (1L << 20) / NODE_SIZE / threads);
+    final SplittableRandom random = new SplittableRandom(seed);
+    this.trees =
+        IntStreamEx.range(threads)
+            .mapToObj(i -> new Tree(random.split(), maxTreeSize))
+            .toArray(Tree[]::new);
+    this.helpers =
+        Executors.newFixedThreadPool(
+            Math.max(1, threads - 1),
+            runnable -> {
+              final Thread thread = new Thread(runnable, "monte-carlo-helper");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  public int getThreads() {
+    return trees.length;
+  }
+
+  /** Most nodes each thread's tree may hold. */
+  public long getMaxTreeSize() {
+    return trees[0].maxSize;
+  }
+
+  /**
+   * Runs playouts until either the budget elapses or {@code maxPlayouts} have been played in total,
+   * whichever comes first.
+   */
+  public MonteCarloResult search(
+      final PackedBoard board, final Duration budget, final long maxPlayouts) {
+    final long start = System.nanoTime();
+    final long deadline = start + budget.toNanos();
+
+    final List<Future<Long>> helperPlayouts =
+        IntStreamEx.range(1, trees.length)
+            .mapToObj(
+                i -> {
+                  final PackedBoard helperBoard = board.copy();
+                  final long helperMaxPlayouts = playoutsFor(i, maxPlayouts);
+                  return helpers.submit(
+                      () -> trees[i].search(helperBoard, deadline, helperMaxPlayouts));
+                })
+            .toList();
+
+    long playouts = trees[0].search(board, deadline, playoutsFor(0, maxPlayouts));
+    for (final Future<Long> helperPlayout : helperPlayouts) {
+      try {
+        playouts += helperPlayout.get();
+      } catch (final InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(exception);
+      } catch (final ExecutionException exception) {
+        throw new IllegalStateException(exception.getCause());
+      }
+    }
+
+    final long[] visits = new long[6];
+    long treeSize = 0;
+    for (final Tree tree : trees) {
+      tree.addRootVisits(visits);
+      treeSize += tree.size;
+    }
+
+    int bestMove = -1;
+    for (int remaining = board.getLegalMoves(); remaining != 0; remaining &= remaining - 1) {
+      final int move = Integer.numberOfTrailingZeros(remaining);
+      if (bestMove == -1 || visits[move] > visits[bestMove]) {
+        bestMove = move;
+      }
+    }
+
+    return new MonteCarloResult(bestMove, playouts, treeSize, System.nanoTime() - start);
+  }
+
+  private long playoutsFor(final int treeIndex, final long maxPlayouts) {
+    final long share = maxPlayouts / trees.length;
+    return treeIndex < maxPlayouts % trees.length ? share + 1 : share;
+  }
+
+  @Override
+  public void close() {
+    helpers.shutdownNow();
+  }
+
+  private static final class Node {
+    private final int move;
+    private final int mover;
+    private int untriedMoves;
+    private Node[] children;
+    private int visits;
+    private double reward;
+
+    private Node(final int move, final int mover, final PackedBoard board) {
+      this.move = move;
+      this.mover = mover;
+      this.untriedMoves = board.isGameOver() ? 0 : board.getLegalMoves();
+    }
+  }
+
+  private static final class Tree {
+    private final SplittableRandom random;
+    private final long maxSize;
+    private final PackedBoard rootBoard = PackedBoard.createStartingBoard();
+    private final PackedBoard board = PackedBoard.createStartingBoard();
+    private Node[] path = new Node[64];
+    private Node root;
+    private long size;
+
+    private Tree(final SplittableRandom random, final long maxSize) {
+      this.random = random;
+      this.maxSize = maxSize;
+    }
+
+    private long search(final PackedBoard position, final long deadline, final long maxPlayouts) {
+      reuse(position);
+
+      long playouts = 0;
+      while (playouts < maxPlayouts) {
+        playout();
+        playouts++;
+        if ((playouts & 63) == 0 && System.nanoTime() - deadline > 0) {
+          break;
+        }
+      }
+      return playouts;
+    }
+
+    private void reuse(final PackedBoard position) {
+      final Node found = root == null ? null : find(position);
+      if (found == null) {
+        root = new Node(-1, 0, position);
+        size = 1;
+      } else {
+        root = found;
+        size = countNodes(found);
+      }
+      rootBoard.copyFrom(position);
+    }
+
+    private Node find(final PackedBoard position) {
+      final ArrayDeque<Node> nodes = new ArrayDeque<>();
+      final ArrayDeque<PackedBoard> boards = new ArrayDeque<>();
+      nodes.add(root);
+      boards.add(rootBoard.copy());
+
+      for (int depth = 0; depth <= REUSE_DEPTH && !nodes.isEmpty(); depth++) {
+        for (int remaining = nodes.size(); remaining > 0; remaining--) {
+          final Node node = nodes.poll();
+          final PackedBoard nodeBoard = boards.poll();
+          if (nodeBoard.getHash() == position.getHash() && nodeBoard.equals(position)) {
+            return node;
+          }
+          if (node.children != null) {
+            for (final Node child : node.children) {
+              if (child != null) {
+                final PackedBoard childBoard = nodeBoard.copy();
+                childBoard.applyMove(child.move);
+                nodes.add(child);
+                boards.add(childBoard);
+              }
+            }
+          }
+        }
+      }
+      return null;
+    }
+
+    private void playout() {
+      board.copyFrom(rootBoard);
+      Node node = root;
+      int length = 0;
+      path[length++] = node;
+
+      while (node.untriedMoves == 0 && node.children != null) {
+        node = select(node);
+        board.applyMove(node.move);
+        if (length == path.length) {
+          path = Arrays.copyOf(path, length * 2);
+        }
+        path[length++] = node;
+      }
+
+      if (node.untriedMoves != 0 && size < maxSize) {
+        final int move = randomMove(node.untriedMoves);
+        node.untriedMoves &= ~(1 << move);
+        final int mover = board.getCurrentPlayerNumber();
+        board.applyMove(move);
+
+        final Node child = new Node(move, mover, board);
+        if (node.children == null) {
+          node.children = new Node[6];
+        }
+        node.children[move] = child;
+        size++;
+        node = child;
+        if (length == path.length) {
+          path = Arrays.copyOf(path, length * 2);
+        }
+        path[length++] = node;
+      }
+
+      while (!board.isGameOver()) {
+        board.applyMove(randomMove(board.getLegalMoves()));
+      }
+
+      final int winner = board.getWinningPlayerNumber();
+      for (int i = 0; i < length; i++) {
+        final Node visited = path[i];
+        visited.visits++;
+        visited.reward += winner == visited.mover ? 1 : winner == 0 ? 0.5 : 0;
+      }
+    }
+
+    private static Node select(final Node node) {
+      final double logVisits = Math.log(node.visits);
+      Node best = null;
+      double bestValue = Double.NEGATIVE_INFINITY;
+      for (final Node child : node.children) {
+        if (child != null) {
+          final double value =
+              child.reward / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+          if (value > bestValue) {
+            best = child;
+            bestValue = value;
+          }
+        }
+      }
+      return best;
+    }
+
+    private int randomMove(final int moves) {
+      int remaining = moves;
+      for (int skip = random.nextInt(Integer.bitCount(moves)); skip > 0; skip--) {
+        remaining &= remaining - 1;
+      }
+      return Integer.numberOfTrailingZeros(remaining);
+    }
+
+    private void addRootVisits(final long[] visits) {
+      if (root.children != null) {
+        for (final Node child : root.children) {
+          if (child != null) {
+            visits[child.move] += child.visits;
+          }
+        }
+      }
+    }
+
+    private static long countNodes(final Node node) {
+      long count = 1;
+      if (node.children != null) {
+        for (final Node child : node.children) {
+          if (child != null) {
+            count += countNodes(child);
+          }
+        }
+      }
+      return count;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package mancala.search;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import mancala.PackedBoard;
+import one.util.streamex.IntStreamEx;
+import one.util.streamex.StreamEx;
+
+/**
+ * Times {@link LazySmpSearch} to a fixed depth from the starting board and a few seeded mid-game
+ * positions, for each thread count, and prints the speedup over a single thread.
+ *
+ * <p>Usage: {@code ParallelSearchBenchmark [depth] [threads,...]}
+ */
+public class ParallelSearchBenchmark {
+  private static final Duration UNLIMITED = Duration.ofDays(1);
+  private static final int TABLE_SIZE_IN_MEGABYTES = 256;
+
+  public static void main(final String[] args) {
+    final int depth = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+    final int[] threadCounts =
+        args.length > 1
+            ? StreamEx.split(args[1], ',').mapToInt(Integer::parseInt).toArray()
+            : new int[] {1, 2, 4, 8, 16, 32};
+
+    System.out.printf(
+        "Depth %d | %d available processors%n", depth, Runtime.getRuntime().availableProcessors());
+    System.out.printf(
+        "%-10s %8s %12s %14s %14s %8s%n",
+        "Position", "Threads", "Millis", "Nodes", "Nodes/s", "Speedup");
+
+    for (final PackedBoard position : positions()) {
+      double baseline = 0;
+      for (final int threads : threadCounts) {
+        try (final LazySmpSearch search =
+            new LazySmpSearch(
+                threads,
+                Evaluation.STORE_DIFFERENCE,
+                new TranspositionTable(TABLE_SIZE_IN_MEGABYTES))) {
+          final SearchResult result = search.search(position, UNLIMITED, depth);
+          final double millis = result.getElapsedNanos() / 1e6;
+          if (baseline == 0) {
+            baseline = millis;
+          }
+          System.out.printf(
+              "%-10s %8d %12.1f %14d %14d %8.2f%n",
+              Long.toHexString(position.getHash()).substring(0, 8),
+              threads,
+              millis,
+              result.getNodes(),
+              result.getNodesPerSecond(),
+              baseline / millis);
+        }
+      }
+    }
+  }
+
+  static List<PackedBoard> positions() {
+    final SplittableRandom random = new SplittableRandom(42);
+    return StreamEx.of(PackedBoard.createStartingBoard())
+        .append(
+            IntStreamEx.of(6, 8, 10, 12, 14)
+                .mapToObj(plies -> playRandomly(PackedBoard.createStartingBoard(), plies, random))
+                .remove(PackedBoard::isGameOver))
+        .toList();
+  }
+
+  private static PackedBoard playRandomly(
+      final PackedBoard board, final int plies, final SplittableRandom random) {
+    for (int ply = 0; ply < plies && !board.isGameOver(); ply++) {
+      int move;
+      do {
+        move = random.nextInt(6);
+      } while (!board.isLegalMove(move));
+      board.applyMove(move);
+    }
+    return board;
+  }
+}
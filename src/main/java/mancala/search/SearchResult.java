@@ -0,0 +1,21 @@
+package mancala.search;
+
+@lombok.Value
+public class SearchResult {
+  private final int playerWellIndex;
+  private final int score;
+  private final int depth;
+  private final long nodes;
+  private final long elapsedNanos;
+
+  public long getNodesPerSecond() {
+    return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000L / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "Well %d | Score %d | Depth %d | %d nodes | %d nodes/s",
+        playerWellIndex, score, depth, nodes, getNodesPerSecond());
+  }
+}
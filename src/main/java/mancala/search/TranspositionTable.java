@@ -0,0 +1,144 @@
+package mancala.search;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size transposition table backed by a single {@code long[]}. Each bucket holds two entries
+ * of a full {@link mancala.Zobrist} key and a packed score, depth, bound and best move. The first
+ * entry is depth-preferred and only gives way to an equal or deeper search, demoting what it held
+ * to the second, always-replace entry.
+ *
+ * <p>The table is shared between threads without locking. Every key is stored XORed with its data,
+ * so an entry torn by a concurrent write no longer matches its position and reads as a miss.
+ */
+public class TranspositionTable {
+  public static final int EXACT = 0;
+  public static final int LOWER_BOUND = 1;
+  public static final int UPPER_BOUND = 2;
+
+  private static final int LONGS_PER_BUCKET = 4;
+  private static final long VALID = 1L << 45;
+
+  private final long[] entries;
+  private final long bucketMask;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder collisions = new LongAdder();
+
+  public TranspositionTable(final int sizeInMegabytes) {
+    if (sizeInMegabytes <= 0) {
+      throw new IllegalArgumentException();
+    }
+    final long buckets =
+        Long.highestOneBit(sizeInMegabytes * (1L << 20) / (Long.BYTES * LONGS_PER_BUCKET));
+    if (buckets * LONGS_PER_BUCKET > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException();
+    }
+    this.entries = new long[(int) (buckets * LONGS_PER_BUCKET)];
+    this.bucketMask = buckets - 1;
+  }
+
+  /** @return the packed entry stored for {@code hash}, or {@code 0} if there is none. */
+  public long probe(final long hash) {
+    final int bucket = bucketOf(hash);
+    final long first = entries[bucket + 1];
+    if (first != 0 && (entries[bucket] ^ first) == hash) {
+      hits.increment();
+      return first;
+    }
+    final long second = entries[bucket + 3];
+    if (second != 0 && (entries[bucket + 2] ^ second) == hash) {
+      hits.increment();
+      return second;
+    }
+    if (first == 0 && second == 0) {
+      misses.increment();
+    } else {
+      collisions.increment();
+    }
+    return 0;
+  }
+
+  public void store(
+      final long hash, final int depth, final int bound, final int move, final int score) {
+    final int bucket = bucketOf(hash);
+    final long data = pack(depth, bound, move, score);
+    final long first = entries[bucket + 1];
+
+    if (first == 0 || (entries[bucket] ^ first) == hash) {
+      if (depth >= depthOf(first)) {
+        entries[bucket] = hash ^ data;
+        entries[bucket + 1] = data;
+      }
+    } else if (depth >= depthOf(first)) {
+      entries[bucket + 2] = entries[bucket];
+      entries[bucket + 3] = first;
+      entries[bucket] = hash ^ data;
+      entries[bucket + 1] = data;
+    } else {
+      entries[bucket + 2] = hash ^ data;
+      entries[bucket + 3] = data;
+    }
+  }
+
+  public void clear() {
+    Arrays.fill(entries, 0);
+    hits.reset();
+    misses.reset();
+    collisions.reset();
+  }
+
+  public int getCapacity() {
+    return entries.length / 2;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /** Probes that found an empty bucket. */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /** Probes that found a bucket holding only other positions. */
+  public long getCollisions() {
+    return collisions.sum();
+  }
+
+  public static int scoreOf(final long data) {
+    return (int) data;
+  }
+
+  public static int depthOf(final long data) {
+    return (int) (data >>> 32) & 0xFF;
+  }
+
+  public static int boundOf(final long data) {
+    return (int) (data >>> 40) & 0x3;
+  }
+
+  public static int moveOf(final long data) {
+    return ((int) (data >>> 42) & 0x7) - 1;
+  }
+
+  private static long pack(final int depth, final int bound, final int move, final int score) {
+    return VALID
+        | ((long) (move + 1) << 42)
+        | ((long) bound << 40)
+        | ((long) depth << 32)
+        | (score & 0xFFFFFFFFL);
+  }
+
+  private int bucketOf(final long hash) {
+    return (int) (hash & bucketMask) * LONGS_PER_BUCKET;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%d hits | %d misses | %d collisions", getHits(), getMisses(), getCollisions());
+  }
+}
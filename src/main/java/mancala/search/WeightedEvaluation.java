@@ -0,0 +1,180 @@
+package mancala.search;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Properties;
+import mancala.PackedBoard;
+import mancala.Sowing;
+import one.util.streamex.StreamEx;
+
+/**
+ * Scores a position as a weighted sum of {@link Feature}s, each the player to move's count minus
+ * the opponent's, rounded to whole beads so that it compares with the exact scores of finished
+ * games. Weights are read from and written to a properties file with one {@code feature=weight}
+ * line per feature; features missing from the file keep their {@link #DEFAULT} weight.
+ *
+ * <p>The default weighs only the stores, and so scores exactly like {@link
+ * Evaluation#STORE_DIFFERENCE}.
+ */
+public class WeightedEvaluation implements Evaluation {
+  public enum Feature {
+    /** Beads in the store. */
+    STORE,
+    /** Beads in the player wells. */
+    SEEDS,
+    /** Most beads a single move would capture, counting beads sown on the way. */
+    CAPTURES,
+    /** Moves that end in the player's own store. */
+    EXTRA_TURNS,
+    /** Non-empty player wells, so legal moves. */
+    MOBILITY;
+
+    public String getKey() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private static final int FEATURES = Feature.values().length;
+
+  public static final WeightedEvaluation DEFAULT = new WeightedEvaluation(1, 0, 0, 0, 0);
+
+  private final double[] weights;
+
+  /** @param weights one for each {@link Feature}, in declaration order */
+  public WeightedEvaluation(final double... weights) {
+    if (weights.length != FEATURES) {
+      throw new IllegalArgumentException();
+    }
+    this.weights = weights.clone();
+  }
+
+  public static WeightedEvaluation load(final Path path) throws IOException {
+    final Properties properties = new Properties();
+    try (final Reader reader = Files.newBufferedReader(path)) {
+      properties.load(reader);
+    }
+    final double[] weights = DEFAULT.getWeights();
+    for (final Feature feature : Feature.values()) {
+      final String weight = properties.getProperty(feature.getKey());
+      if (weight != null) {
+        weights[feature.ordinal()] = Double.parseDouble(weight.trim());
+      }
+    }
+    return new WeightedEvaluation(weights);
+  }
+
+  public void write(final Path path) throws IOException {
+    try (final Writer writer = Files.newBufferedWriter(path)) {
+      for (final Feature feature : Feature.values()) {
+        writer.write(String.format(Locale.ROOT, "%s=%s%n", feature.getKey(), getWeight(feature)));
+      }
+    }
+  }
+
+  public double[] getWeights() {
+    return weights.clone();
+  }
+
+  public double getWeight(final Feature feature) {
+    return weights[feature.ordinal()];
+  }
+
+  @Override
+  public int evaluate(final PackedBoard board) {
+    final int player = board.getCurrentPlayerNumber();
+    final int opponent = 3 - player;
+    return (int)
+        Math.round(
+            weights[0] * (board.getHomeBaseBeads(player) - board.getHomeBaseBeads(opponent))
+                + weights[1]
+                    * (board.getBeadsInPlayerWells(player) - board.getBeadsInPlayerWells(opponent))
+                + weights[2] * (capturesOf(board, player) - capturesOf(board, opponent))
+                + weights[3] * (extraTurnsOf(board, player) - extraTurnsOf(board, opponent))
+                + weights[4] * (mobilityOf(board, player) - mobilityOf(board, opponent)));
+  }
+
+  /** @return every {@link Feature} of the position, in declaration order */
+  public static int[] featuresOf(final PackedBoard board) {
+    final int player = board.getCurrentPlayerNumber();
+    final int opponent = 3 - player;
+    return new int[] {
+      board.getHomeBaseBeads(player) - board.getHomeBaseBeads(opponent),
+      board.getBeadsInPlayerWells(player) - board.getBeadsInPlayerWells(opponent),
+      capturesOf(board, player) - capturesOf(board, opponent),
+      extraTurnsOf(board, player) - extraTurnsOf(board, opponent),
+      mobilityOf(board, player) - mobilityOf(board, opponent)
+    };
+  }
+
+  private static int capturesOf(final PackedBoard board, final int playerNumber) {
+    final int homeBase = homeBaseOf(playerNumber);
+    int most = 0;
+    for (int i = 0; i < 6; i++) {
+      final int fromIndex = homeBase - 6 + i;
+      final int beads = board.getBeads(fromIndex);
+      final int sowing = Sowing.of(playerNumber, i, beads);
+      final int lastIndex = Sowing.landingIndexOf(sowing);
+      if (beads == 0 || lastIndex < homeBase - 6 || lastIndex >= homeBase) {
+        continue;
+      }
+      final int laps = Sowing.lapsOf(sowing);
+      final int landed = lastIndex == fromIndex ? laps : board.getBeads(lastIndex) + laps + 1;
+      final int oppositeIndex = 12 - lastIndex;
+      final int passed =
+          Math.floorMod(oppositeIndex - fromIndex, PackedBoard.SIZE) <= beads % PackedBoard.SIZE
+              ? 1
+              : 0;
+      final int opposite = board.getBeads(oppositeIndex) + laps + passed;
+      if (landed == 1 && opposite > 0) {
+        most = Math.max(most, opposite + 1);
+      }
+    }
+    return most;
+  }
+
+  private static int extraTurnsOf(final PackedBoard board, final int playerNumber) {
+    final int homeBase = homeBaseOf(playerNumber);
+    int moves = 0;
+    for (int i = 0; i < 6; i++) {
+      final int beads = board.getBeads(playerNumber, i);
+      moves +=
+          beads > 0 && Sowing.landingIndexOf(Sowing.of(playerNumber, i, beads)) == homeBase ? 1 : 0;
+    }
+    return moves;
+  }
+
+  private static int homeBaseOf(final int playerNumber) {
+    return playerNumber == 1 ? PackedBoard.PLAYER_ONE_HOME_BASE : PackedBoard.PLAYER_TWO_HOME_BASE;
+  }
+
+  private static int mobilityOf(final PackedBoard board, final int playerNumber) {
+    int wells = 0;
+    for (int i = 0; i < 6; i++) {
+      wells += board.getBeads(playerNumber, i) > 0 ? 1 : 0;
+    }
+    return wells;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return o instanceof WeightedEvaluation
+        && Arrays.equals(weights, ((WeightedEvaluation) o).weights);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(weights);
+  }
+
+  @Override
+  public String toString() {
+    return StreamEx.of(Feature.values())
+        .map(feature -> String.format(Locale.ROOT, "%s=%.3f", feature.getKey(), getWeight(feature)))
+        .joining(" ");
+  }
+}
@@ -0,0 +1,129 @@
+package mancala.server;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+import mancala.Game;
+import mancala.Move.IllegalMoveException;
+import mancala.Player;
+import mancala.event.GameEventPublisher;
+import mancala.player.PiratePlayer;
+import one.util.streamex.EntryStream;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/games")
+public class GameController {
+  private static final Map<String, IntFunction<Player>> OPPONENTS =
+      EntryStream.<String, IntFunction<Player>>of(
+              "remote", RemotePlayer::new,
+              "pirate", PiratePlayer::new)
+          .toImmutableMap();
+
+  private final GameSessionStore store;
+  private final Executor spectators;
+  private final int spectatorBufferSize;
+
+  public GameController(
+      final GameSessionStore store,
+      @Qualifier(GameServer.SPECTATOR_EXECUTOR) final Executor spectators,
+      @Value("${mancala.server.spectator-buffer-size:64}") final int spectatorBufferSize) {
+    this.store = store;
+    this.spectators = spectators;
+    this.spectatorBufferSize = spectatorBufferSize;
+  }
+
+  /**
+   * Creates a game where the caller is Player 1 against the given opponent as Player 2. Animated
+   * games step bead by bead, which spectators see as one event per bead.
+   */
+  @PostMapping
+  @ResponseStatus(HttpStatus.CREATED)
+  public GameView create(
+      @RequestParam(defaultValue = "pirate") final String opponent,
+      @RequestParam(defaultValue = "false") final boolean animated) {
+    final IntFunction<Player> opponentFactory = OPPONENTS.get(opponent);
+    if (opponentFactory == null) {
+      throw new IllegalArgumentException(
+          String.format("Opponent must be one of %s", OPPONENTS.keySet()));
+    }
+    return store
+        .create(
+            id ->
+                new GameSession(
+                    id,
+                    new Game(new RemotePlayer(1), opponentFactory.apply(2), animated),
+                    new GameEventPublisher(spectators, spectatorBufferSize)))
+        .start();
+  }
+
+  @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter events(@PathVariable final String id) {
+    final GameSession session = find(id);
+    final SseEmitter emitter = new SseEmitter(0L);
+    session.subscribe(new SseSpectator(emitter));
+    return emitter;
+  }
+
+  @GetMapping("/{id}")
+  public GameView get(@PathVariable final String id) {
+    return find(id).view();
+  }
+
+  @PostMapping("/{id}/moves")
+  public GameView move(@PathVariable final String id, @RequestBody final MoveRequest move)
+      throws IllegalMoveException {
+    return find(id).move(move.getPlayer(), move.getWell());
+  }
+
+  @DeleteMapping("/{id}")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public void delete(@PathVariable final String id) {
+    if (!store.remove(id)) {
+      throw new NoSuchElementException(id);
+    }
+  }
+
+  private GameSession find(final String id) {
+    return store.get(id).orElseThrow(() -> new NoSuchElementException(id));
+  }
+
+  @ExceptionHandler(NoSuchElementException.class)
+  @ResponseStatus(HttpStatus.NOT_FOUND)
+  public Map<String, String> notFound(final NoSuchElementException exception) {
+    return Map.of("error", String.format("No game %s", exception.getMessage()));
+  }
+
+  @ExceptionHandler({IllegalMoveException.class, IllegalArgumentException.class})
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public Map<String, String> badRequest(final Exception exception) {
+    return Map.of("error", exception.getMessage());
+  }
+
+  @ExceptionHandler(NotYourTurnException.class)
+  @ResponseStatus(HttpStatus.CONFLICT)
+  public Map<String, String> conflict(final NotYourTurnException exception) {
+    return Map.of("error", exception.getMessage());
+  }
+
+  @lombok.Data
+  public static class MoveRequest {
+    private int player;
+    private int well;
+  }
+}
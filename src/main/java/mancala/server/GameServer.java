@@ -0,0 +1,34 @@
+package mancala.server;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@EnableScheduling
+@SpringBootApplication
+public class GameServer {
+  public static final String SPECTATOR_EXECUTOR = "spectatorExecutor";
+
+  /** Writes events to spectators, so a slow connection never holds up a game. */
+  @Bean(name = SPECTATOR_EXECUTOR, destroyMethod = "shutdown")
+  public ExecutorService spectatorExecutor(
+      @Value("${mancala.server.spectator-threads:16}") final int threads) {
+    return Executors.newFixedThreadPool(threads);
+  }
+
+  @Bean
+  public MeterBinder activeGames(final GameSessionStore store) {
+    return registry ->
+        Gauge.builder("mancala.games.active", store, GameSessionStore::size).register(registry);
+  }
+
+  public static void main(final String[] args) {
+    SpringApplication.run(GameServer.class, args);
+  }
+}
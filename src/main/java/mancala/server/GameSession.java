@@ -0,0 +1,103 @@
+package mancala.server;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import mancala.Game;
+import mancala.Game.FinishedGame;
+import mancala.Move.IllegalMoveException;
+import mancala.Player;
+import mancala.event.GameEvent;
+import mancala.event.GameEventPublisher;
+
+/**
+ * One hosted game. All access goes through the session's own monitor, so moves on the same game are
+ * applied one at a time while different games never wait on each other.
+ */
+public class GameSession {
+  private final String id;
+  private final GameEventPublisher events;
+  private Game game;
+  private CompletableFuture<Game> awaitedGame;
+  private volatile long lastAccessNanos;
+
+  public GameSession(final String id, final Game game) {
+    this(id, game, new GameEventPublisher(Runnable::run, 1));
+  }
+
+  public GameSession(final String id, final Game game, final GameEventPublisher events) {
+    this.id = id;
+    this.events = events;
+    this.game = game;
+    this.lastAccessNanos = System.nanoTime();
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public long getLastAccessNanos() {
+    return lastAccessNanos;
+  }
+
+  public synchronized GameView view() {
+    lastAccessNanos = System.nanoTime();
+    return GameView.of(id, game);
+  }
+
+  /** Plays every move that does not need a {@link RemotePlayer}, e.g. a computer opening. */
+  public synchronized GameView start() {
+    lastAccessNanos = System.nanoTime();
+    events.publish(game);
+    advance();
+    return GameView.of(id, game);
+  }
+
+  /** Streams every transition from now on, starting with the current one. */
+  public void subscribe(final Flow.Subscriber<? super GameEvent> spectator) {
+    lastAccessNanos = System.nanoTime();
+    events.subscribe(spectator);
+  }
+
+  /** Completes the event stream of every spectator. */
+  public void close() {
+    events.close();
+  }
+
+  public synchronized GameView move(final int playerNumber, final int wellIndex)
+      throws IllegalMoveException {
+    lastAccessNanos = System.nanoTime();
+    if (game instanceof FinishedGame) {
+      throw new NotYourTurnException("Game is over");
+    }
+    final Player currentPlayer = game.getState().getCurrentPlayer();
+    if (currentPlayer.getPlayerNumber() != playerNumber
+        || !(currentPlayer instanceof RemotePlayer)) {
+      throw new NotYourTurnException(String.format("It is not Player %d's turn", playerNumber));
+    }
+
+    ((RemotePlayer) currentPlayer).play(game, wellIndex);
+    setGame(awaitedGame.join());
+    advance();
+    return GameView.of(id, game);
+  }
+
+  /** Steps the game until it ends or a {@link RemotePlayer} is asked for a move. */
+  private void advance() {
+    while (!(game instanceof FinishedGame)) {
+      final CompletableFuture<Game> next = game.progressAsync().toCompletableFuture();
+      if (!next.isDone()) {
+        awaitedGame = next;
+        return;
+      }
+      setGame(next.join());
+    }
+  }
+
+  private void setGame(final Game next) {
+    game = next;
+    events.publish(next);
+    if (next instanceof FinishedGame) {
+      events.close();
+    }
+  }
+}
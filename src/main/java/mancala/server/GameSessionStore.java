@@ -0,0 +1,113 @@
+package mancala.server;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sessions are spread over a power-of-two number of shards by id, each shard being a plain map
+ * guarded by its own lock, so lookups for different games rarely contend and no lock is ever held
+ * while a game is played. Sessions are only taken out of a shard under its lock and closed after it
+ * is released, since closing waits for any move still publishing to spectators.
+ */
+@Component
+public class GameSessionStore {
+  private final Shard[] shards;
+  private final long idleTimeoutNanos;
+
+  public GameSessionStore(
+      @Value("${mancala.server.shards:64}") final int shards,
+      @Value("${mancala.server.idle-timeout:PT10M}") final Duration idleTimeout) {
+    if (shards < 1 || Integer.bitCount(shards) != 1) {
+      throw new IllegalArgumentException();
+    }
+    this.shards = new Shard[shards];
+    for (int i = 0; i < shards; i++) {
+      this.shards[i] = new Shard();
+    }
+    this.idleTimeoutNanos = idleTimeout.toNanos();
+  }
+
+  public GameSession create(final Function<String, GameSession> sessionFactory) {
+    while (true) {
+      final String id = UUID.randomUUID().toString();
+      final Shard shard = shardFor(id);
+      synchronized (shard) {
+        if (!shard.sessions.containsKey(id)) {
+          final GameSession session = sessionFactory.apply(id);
+          shard.sessions.put(id, session);
+          return session;
+        }
+      }
+    }
+  }
+
+  public Optional<GameSession> get(final String id) {
+    final Shard shard = shardFor(id);
+    synchronized (shard) {
+      return Optional.ofNullable(shard.sessions.get(id));
+    }
+  }
+
+  public boolean remove(final String id) {
+    final Shard shard = shardFor(id);
+    final GameSession session;
+    synchronized (shard) {
+      session = shard.sessions.remove(id);
+    }
+    if (session == null) {
+      return false;
+    }
+    session.close();
+    return true;
+  }
+
+  public int size() {
+    int size = 0;
+    for (final Shard shard : shards) {
+      synchronized (shard) {
+        size += shard.sessions.size();
+      }
+    }
+    return size;
+  }
+
+  /** Removes sessions nobody has touched for the idle timeout, one shard at a time. */
+  @Scheduled(fixedDelayString = "${mancala.server.eviction-interval-millis:30000}")
+  public int evictIdleSessions() {
+    final long now = System.nanoTime();
+    final List<GameSession> evicted = new ArrayList<>();
+    for (final Shard shard : shards) {
+      synchronized (shard) {
+        final Iterator<GameSession> sessions = shard.sessions.values().iterator();
+        while (sessions.hasNext()) {
+          final GameSession session = sessions.next();
+          if (now - session.getLastAccessNanos() >= idleTimeoutNanos) {
+            sessions.remove();
+            evicted.add(session);
+          }
+        }
+      }
+    }
+    evicted.forEach(GameSession::close);
+    return evicted.size();
+  }
+
+  private Shard shardFor(final String id) {
+    final int hash = id.hashCode();
+    return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+  }
+
+  private static final class Shard {
+    private final Map<String, GameSession> sessions = new HashMap<>();
+  }
+}
@@ -0,0 +1,32 @@
+package mancala.server;
+
+import mancala.Game;
+import mancala.Game.FinishedGame;
+import mancala.Player;
+import mancala.Well;
+
+@lombok.Value
+public class GameView {
+  private final String id;
+  private final int[] wells;
+  private final int currentPlayer;
+  private final boolean finished;
+
+  /** The winning player number once finished, {@code 0} for a draw. */
+  private final Integer winner;
+
+  static GameView of(final String id, final Game game) {
+    final int[] wells =
+        game.getBoard().getWells().stream().mapToInt(Well::getNumberOfBeads).toArray();
+    if (game instanceof FinishedGame) {
+      return new GameView(
+          id,
+          wells,
+          0,
+          true,
+          ((FinishedGame) game).getWinningPlayer().map(Player::getPlayerNumber).orElse(0));
+    }
+    return new GameView(
+        id, wells, game.getState().getCurrentPlayer().getPlayerNumber(), false, null);
+  }
+}
@@ -0,0 +1,8 @@
+package mancala.server;
+
+/** A move posted for a player who is not to move, including on a game that is over. */
+public class NotYourTurnException extends IllegalStateException {
+  public NotYourTurnException(final String message) {
+    super(message);
+  }
+}
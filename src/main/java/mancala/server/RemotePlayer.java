@@ -0,0 +1,42 @@
+package mancala.server;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import mancala.Game;
+import mancala.Move;
+import mancala.Move.IllegalMoveException;
+import mancala.Player;
+
+/**
+ * A player whose moves arrive over HTTP. Asking it for a move parks the game on a future that the
+ * {@link GameSession} completes when the move is posted, so no thread waits in between.
+ */
+public class RemotePlayer extends Player {
+  private CompletableFuture<Move> awaitedMove;
+
+  public RemotePlayer(final int playerNumber) {
+    super(playerNumber);
+  }
+
+  boolean isAwaitingMove() {
+    return awaitedMove != null && !awaitedMove.isDone();
+  }
+
+  void play(final Game game, final int wellIndex) throws IllegalMoveException {
+    if (!isAwaitingMove()) {
+      throw new IllegalStateException(String.format("Player %d is not to move", getPlayerNumber()));
+    }
+    awaitedMove.complete(new Move(game.getBoard(), this, wellIndex));
+  }
+
+  @Override
+  public CompletionStage<Move> makeMoveAsync(final Game game) {
+    awaitedMove = new CompletableFuture<>();
+    return awaitedMove;
+  }
+
+  @Override
+  public Move makeMove(final Game game) throws IllegalMoveException {
+    throw new IllegalStateException("No move has been received");
+  }
+}
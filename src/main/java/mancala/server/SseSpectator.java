@@ -0,0 +1,60 @@
+package mancala.server;
+
+import java.io.IOException;
+import java.util.concurrent.Flow;
+import mancala.event.GameEvent;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Sends game events to one server-sent events client, asking for the next event only once the
+ * previous one has been written, so a slow connection only ever slows down its own stream.
+ *
+ * <p>Writing blocks the spectator thread until the client has taken the event. {@link SseEmitter}
+ * offers no asynchronous send, and it cannot be completed while a send is stuck, so a client that
+ * stops reading is only let go when the connector's write timeout, {@code
+ * server.tomcat.connection-timeout}, fails the send. Until then it holds one of the {@code
+ * mancala.server.spectator-threads}, and once that many clients are stuck at the same time every
+ * other stream waits for them.
+ */
+class SseSpectator implements Flow.Subscriber<GameEvent> {
+  private final SseEmitter emitter;
+  private Flow.Subscription subscription;
+
+  SseSpectator(final SseEmitter emitter) {
+    this.emitter = emitter;
+  }
+
+  @Override
+  public void onSubscribe(final Flow.Subscription subscription) {
+    this.subscription = subscription;
+    emitter.onCompletion(subscription::cancel);
+    emitter.onTimeout(subscription::cancel);
+    subscription.request(1);
+  }
+
+  @Override
+  public void onNext(final GameEvent event) {
+    try {
+      emitter.send(
+          SseEmitter.event()
+              .id(Long.toString(event.getSequence()))
+              .name(event.getState())
+              .data(event, MediaType.APPLICATION_JSON));
+      subscription.request(1);
+    } catch (final IOException exception) {
+      subscription.cancel();
+      emitter.completeWithError(exception);
+    }
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+    emitter.completeWithError(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    emitter.complete();
+  }
+}
@@ -0,0 +1,278 @@
+package mancala.solver;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalInt;
+import mancala.PackedBoard;
+import mancala.tablebase.Tablebase;
+import mancala.tablebase.TablebaseIndex;
+
+/**
+ * Disk-backed table of proven bounds on the value of positions: how many more beads the player to
+ * move will bank than the opponent from now on with perfect play, as in {@link Tablebase}. Entries
+ * are keyed on {@link TablebaseIndex#indexOf(PackedBoard)}, which ignores the stores and reads the
+ * board from the player to move, so a position, its mirror and every position differing from it
+ * only in the stores share one entry, whatever the number of beads per well the game started with.
+ *
+ * <p>The file is memory-mapped in chunks, so the table may be far larger than the heap: the page
+ * cache holds the buckets in use and writes the rest back to the file. Like {@link
+ * mancala.search.TranspositionTable} every slot holds its key XORed with its data, so threads share
+ * it without locking and a slot torn by a concurrent write, or by a crash before all pages reached
+ * the disk, reads as a miss. Bounds are proven facts, so whatever subset of them survives is sound.
+ *
+ * <p>Each key probes one bucket of {@link #BUCKET_SLOTS} slots. A full bucket gives way to the new
+ * entry only if the one it replaces took fewer nodes to prove.
+ */
+public class SolutionStore implements Closeable {
+  public static final int NO_LOWER_BOUND = Short.MIN_VALUE;
+  public static final int NO_UPPER_BOUND = Short.MAX_VALUE;
+  public static final int MAX_WORK = 63;
+
+  static final int MAGIC = 0x4d4e5353;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES;
+  static final int SLOT_SIZE = 2 * Long.BYTES;
+  static final int BUCKET_SLOTS = 8;
+  static final int BUCKET_SIZE = BUCKET_SLOTS * SLOT_SIZE;
+  static final int CHUNK_SIZE = 1 << 30;
+
+  private static final int BUCKETS_PER_CHUNK = CHUNK_SIZE / BUCKET_SIZE;
+  private static final long VALID = 1L << 41;
+  private static final long MIX = 0x9e3779b97f4a7c15L;
+
+  private final FileChannel channel;
+  private final MappedByteBuffer[] chunks;
+  private final long bucketMask;
+  private final boolean writable;
+
+  private SolutionStore(final FileChannel channel, final boolean writable) throws IOException {
+    this.channel = channel;
+    this.writable = writable;
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    while (header.hasRemaining() && channel.read(header, header.position()) > 0) {}
+    header.flip();
+    if (header.remaining() < HEADER_SIZE
+        || header.getInt() != MAGIC
+        || header.getInt() != VERSION) {
+      throw new IOException("Not a solution store file");
+    }
+    final long buckets = header.getLong();
+    if (buckets <= 0
+        || Long.bitCount(buckets) != 1
+        || channel.size() != HEADER_SIZE + buckets * BUCKET_SIZE) {
+      throw new IOException("Corrupt solution store file");
+    }
+    this.bucketMask = buckets - 1;
+    this.chunks = new MappedByteBuffer[(int) ((buckets - 1) / BUCKETS_PER_CHUNK + 1)];
+    for (int i = 0; i < chunks.length; i++) {
+      final long offset = (long) i * CHUNK_SIZE;
+      chunks[i] =
+          channel.map(
+              writable ? MapMode.READ_WRITE : MapMode.READ_ONLY,
+              HEADER_SIZE + offset,
+              Math.min(CHUNK_SIZE, buckets * BUCKET_SIZE - offset));
+    }
+  }
+
+  /**
+   * Opens the store at {@code path} for reading and writing, creating it with room for about {@code
+   * sizeInMegabytes} of entries if it does not exist yet. An existing store keeps its size.
+   */
+  public static SolutionStore open(final Path path, final int sizeInMegabytes) throws IOException {
+    if (sizeInMegabytes <= 0) {
+      throw new IllegalArgumentException();
+    }
+    if (!Files.exists(path)) {
+      create(path, Long.highestOneBit(Math.max(1, sizeInMegabytes * (1L << 20) / BUCKET_SIZE)));
+    }
+    return open(path, true);
+  }
+
+  /** Opens an existing store for reading only, as a {@link mancala.Player} does. */
+  public static SolutionStore open(final Path path) throws IOException {
+    return open(path, false);
+  }
+
+  private static SolutionStore open(final Path path, final boolean writable) throws IOException {
+    final FileChannel channel =
+        writable
+            ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+            : FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new SolutionStore(channel, writable);
+    } catch (final IOException exception) {
+      channel.close();
+      throw exception;
+    }
+  }
+
+  private static void create(final Path path, final long buckets) throws IOException {
+    final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+    try (final FileChannel channel =
+        FileChannel.open(
+            temporary,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      header.putInt(MAGIC).putInt(VERSION).putLong(buckets).flip();
+      while (header.hasRemaining()) {
+        channel.write(header);
+      }
+      channel.truncate(HEADER_SIZE);
+      channel.write(ByteBuffer.allocate(1), HEADER_SIZE + buckets * BUCKET_SIZE - 1);
+      channel.force(true);
+    }
+    Files.move(temporary, path);
+  }
+
+  public long getCapacity() {
+    return (bucketMask + 1) * BUCKET_SLOTS;
+  }
+
+  /** @return the exact value of the position, if it has been proven */
+  public OptionalInt getValue(final PackedBoard board) {
+    final long data = probe(TablebaseIndex.indexOf(board));
+    return data != 0 && lowerOf(data) == upperOf(data)
+        ? OptionalInt.of(lowerOf(data))
+        : OptionalInt.empty();
+  }
+
+  /** @return a move reaching the exact value of the position, if it has been proven */
+  public OptionalInt getMove(final PackedBoard board) {
+    final long data = probe(TablebaseIndex.indexOf(board));
+    return data != 0 && lowerOf(data) == upperOf(data) && moveOf(data) != -1
+        ? OptionalInt.of(moveOf(data))
+        : OptionalInt.empty();
+  }
+
+  /**
+   * @return the packed entry stored for the {@link TablebaseIndex}, or {@code 0} if there is none
+   */
+  public long probe(final long index) {
+    final long key = index + 1;
+    final MappedByteBuffer chunk = chunkOf(key);
+    final int bucket = offsetOf(key);
+    for (int slot = bucket; slot < bucket + BUCKET_SIZE; slot += SLOT_SIZE) {
+      final long data = chunk.getLong(slot + Long.BYTES);
+      if (data == 0) {
+        return 0;
+      }
+      if ((chunk.getLong(slot) ^ data) == key) {
+        return data;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Narrows the bounds stored for the {@link TablebaseIndex}, keeping the move that proved the
+   * higher lower bound.
+   *
+   * @param move the move reaching {@code lower}, or {@code -1}
+   * @param work log2 of the nodes the bounds took to prove, up to {@link #MAX_WORK}
+   */
+  public void store(
+      final long index, final int lower, final int upper, final int move, final int work) {
+    if (!writable) {
+      throw new IllegalStateException("Solution store is read-only");
+    }
+    final long key = index + 1;
+    final MappedByteBuffer chunk = chunkOf(key);
+    final int bucket = offsetOf(key);
+    int victim = -1;
+    int victimWork = Integer.MAX_VALUE;
+    for (int slot = bucket; slot < bucket + BUCKET_SIZE; slot += SLOT_SIZE) {
+      final long data = chunk.getLong(slot + Long.BYTES);
+      if (data == 0) {
+        write(chunk, slot, key, pack(lower, upper, move, work));
+        return;
+      }
+      if ((chunk.getLong(slot) ^ data) == key) {
+        final boolean raised = lower > lowerOf(data) || moveOf(data) == -1;
+        write(
+            chunk,
+            slot,
+            key,
+            pack(
+                Math.max(lower, lowerOf(data)),
+                Math.min(upper, upperOf(data)),
+                raised && move != -1 ? move : moveOf(data),
+                Math.max(work, workOf(data))));
+        return;
+      }
+      if (workOf(data) < victimWork) {
+        victim = slot;
+        victimWork = workOf(data);
+      }
+    }
+    if (victimWork <= work) {
+      write(chunk, victim, key, pack(lower, upper, move, work));
+    }
+  }
+
+  /** Writes every changed page back to the file, so what is stored so far survives a crash. */
+  public void force() {
+    if (writable) {
+      for (final MappedByteBuffer chunk : chunks) {
+        chunk.force();
+      }
+    }
+  }
+
+  public static int lowerOf(final long data) {
+    return (short) data;
+  }
+
+  public static int upperOf(final long data) {
+    return (short) (data >>> 16);
+  }
+
+  public static int moveOf(final long data) {
+    return ((int) (data >>> 32) & 0x7) - 1;
+  }
+
+  public static int workOf(final long data) {
+    return (int) (data >>> 35) & 0x3F;
+  }
+
+  private static long pack(final int lower, final int upper, final int move, final int work) {
+    return VALID
+        | ((long) Math.min(work, MAX_WORK) << 35)
+        | ((long) (move + 1) << 32)
+        | ((upper & 0xFFFFL) << 16)
+        | (lower & 0xFFFFL);
+  }
+
+  private static void write(
+      final MappedByteBuffer chunk, final int slot, final long key, final long data) {
+    chunk.putLong(slot, key ^ data);
+    chunk.putLong(slot + Long.BYTES, data);
+  }
+
+  private long bucketOf(final long key) {
+    final long mixed = key * MIX;
+    return (mixed ^ (mixed >>> 32)) & bucketMask;
+  }
+
+  private MappedByteBuffer chunkOf(final long key) {
+    return chunks[(int) (bucketOf(key) / BUCKETS_PER_CHUNK)];
+  }
+
+  private int offsetOf(final long key) {
+    return (int) (bucketOf(key) % BUCKETS_PER_CHUNK) * BUCKET_SIZE;
+  }
+
+  @Override
+  public void close() throws IOException {
+    force();
+    channel.close();
+  }
+}
@@ -0,0 +1,265 @@
+package mancala.solver;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import mancala.PackedBoard;
+import mancala.search.TranspositionTable;
+import mancala.tablebase.Tablebase;
+import mancala.tablebase.TablebaseIndex;
+import one.util.streamex.IntStreamEx;
+import one.util.streamex.StreamEx;
+
+/**
+ * Solves a position exactly with MTD(f): a series of null-window tests, each proving the value is
+ * at least or below a test value, until the proven bounds meet. Every thread runs its own tests
+ * over one shared {@link TranspositionTable}: the first follows MTD(f), testing its last result,
+ * and the others bisect the open interval at evenly spread points, so each test narrows the bounds
+ * whichever thread finishes it. Tests whose answer the others have already settled are abandoned.
+ *
+ * <p>Expensive subtrees and the root's bounds are written to a {@link SolutionStore}, which is
+ * forced to disk every checkpoint interval. A solve started again over the same store picks up the
+ * root's bounds and every subtree proven so far, so it resumes rather than starts over. Once
+ * solved, the store answers {@link SolutionStore#getValue} and {@link SolutionStore#getMove} for
+ * the root and the positions on its proof.
+ */
+public class Solver implements Closeable {
+  public static final Duration CHECKPOINT_INTERVAL = Duration.ofMinutes(1);
+
+  private static final Duration UNLIMITED = Duration.ofDays(365);
+  private static final int MIN_STORED_WORK = 10;
+  private static final int CLOSED = Integer.MIN_VALUE;
+
+  private final SolutionStore store;
+  private final Tablebase tablebase;
+  private final SolverSearch[] searches;
+  private final ExecutorService workers;
+
+  public Solver(
+      final SolutionStore store,
+      final Tablebase tablebase,
+      final int threads,
+      final int tableSizeInMegabytes) {
+    if (threads < 1) {
+      throw new IllegalArgumentException();
+    }
+    this.store = store;
+    this.tablebase = tablebase;
+    final TranspositionTable table = new TranspositionTable(tableSizeInMegabytes);
+    this.searches =
+        IntStreamEx.range(threads)
+            .mapToObj(i -> new SolverSearch(table, store, tablebase, i, MIN_STORED_WORK))
+            .toArray(SolverSearch[]::new);
+    this.workers =
+        Executors.newFixedThreadPool(
+            threads,
+            runnable -> {
+              final Thread thread = new Thread(runnable, "solver");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /** @return the starting board of the game with {@code beadsPerWell} in every player well */
+  public static PackedBoard createStartingBoard(final int beadsPerWell) {
+    if (beadsPerWell < 1 || 12 * beadsPerWell > Byte.MAX_VALUE) {
+      throw new IllegalArgumentException();
+    }
+    final int[] wells = new int[PackedBoard.SIZE];
+    for (int i = 0; i < 6; i++) {
+      wells[i] = beadsPerWell;
+      wells[i + 7] = beadsPerWell;
+    }
+    return new PackedBoard(wells, 1);
+  }
+
+  public int getThreads() {
+    return searches.length;
+  }
+
+  public SolverResult solve(final PackedBoard board, final Duration budget) {
+    return solve(board, budget, CHECKPOINT_INTERVAL, result -> {});
+  }
+
+  /**
+   * Solves until the bounds on the value of {@code board} meet or the budget runs out.
+   *
+   * @param checkpoint told the bounds so far every {@code checkpointInterval}, once the store has
+   *     been forced to disk
+   * @return how many more beads the player to move will bank than the opponent from now on
+   */
+  public SolverResult solve(
+      final PackedBoard board,
+      final Duration budget,
+      final Duration checkpointInterval,
+      final Consumer<SolverResult> checkpoint) {
+    if (board.isGameOver()) {
+      throw new IllegalArgumentException();
+    }
+    final long start = System.nanoTime();
+    if (tablebase != null && tablebase.covers(board)) {
+      final int value = tablebase.probe(board);
+      return new SolverResult(
+          value, value, tablebase.getBestMove(board), 0, System.nanoTime() - start);
+    }
+
+    final long index = TablebaseIndex.indexOf(board);
+    final int beads = TablebaseIndex.beadsInPlayerWells(board);
+    final Window window = new Window(index, -beads, beads);
+    final long stored = store.probe(index);
+    if (stored != 0) {
+      window.narrow(
+          SolutionStore.lowerOf(stored),
+          SolutionStore.upperOf(stored),
+          SolutionStore.moveOf(stored));
+    }
+
+    final long deadline = start + budget.toNanos();
+    final long nodesBefore = getNodes();
+    final List<Future<?>> results =
+        IntStreamEx.range(searches.length)
+            .<Future<?>>mapToObj(
+                i -> {
+                  final PackedBoard workerBoard = board.copy();
+                  return workers.submit(() -> work(searches[i], i, workerBoard, window, deadline));
+                })
+            .toList();
+
+    long nextCheckpoint = start + checkpointInterval.toNanos();
+    for (final Future<?> result : results) {
+      while (true) {
+        try {
+          result.get(Math.max(0, nextCheckpoint - System.nanoTime()), TimeUnit.NANOSECONDS);
+          break;
+        } catch (final TimeoutException exception) {
+          store.force();
+          checkpoint.accept(window.toResult(getNodes() - nodesBefore, System.nanoTime() - start));
+          nextCheckpoint += checkpointInterval.toNanos();
+        } catch (final InterruptedException exception) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException(exception);
+        } catch (final ExecutionException exception) {
+          throw new IllegalStateException(exception.getCause());
+        }
+      }
+    }
+    store.force();
+    return window.toResult(getNodes() - nodesBefore, System.nanoTime() - start);
+  }
+
+  private void work(
+      final SolverSearch search,
+      final int helperIndex,
+      final PackedBoard board,
+      final Window window,
+      final long deadline) {
+    while (true) {
+      final int gamma = window.nextGamma(helperIndex, searches.length);
+      if (gamma == CLOSED || System.nanoTime() - deadline > 0) {
+        return;
+      }
+      final int score =
+          search.test(
+              board, gamma, () -> System.nanoTime() - deadline > 0 || !window.isOpen(gamma));
+      if (!search.isAborted()) {
+        window.update(gamma, score, search.getRootMove());
+      }
+    }
+  }
+
+  private long getNodes() {
+    return StreamEx.of(searches).mapToLong(SolverSearch::getNodes).sum();
+  }
+
+  @Override
+  public void close() {
+    workers.shutdownNow();
+  }
+
+  /** The bounds proven on the root so far, shared by every thread and mirrored to the store. */
+  private final class Window {
+    private final long index;
+    private int lower;
+    private int upper;
+    private int move = -1;
+    private int guess;
+
+    Window(final long index, final int lower, final int upper) {
+      this.index = index;
+      this.lower = lower;
+      this.upper = upper;
+    }
+
+    synchronized void narrow(final int lower, final int upper, final int move) {
+      if (lower > this.lower) {
+        this.lower = lower;
+        this.move = move;
+      }
+      this.upper = Math.min(this.upper, upper);
+      guess = this.lower;
+    }
+
+    synchronized int nextGamma(final int helperIndex, final int threads) {
+      if (lower >= upper) {
+        return CLOSED;
+      }
+      return helperIndex == 0
+          ? Math.max(lower + 1, Math.min(guess, upper))
+          : lower + 1 + (int) ((long) (upper - lower - 1) * helperIndex / threads);
+    }
+
+    synchronized boolean isOpen(final int gamma) {
+      return lower < gamma && gamma <= upper;
+    }
+
+    synchronized void update(final int gamma, final int score, final int move) {
+      if (score >= gamma) {
+        if (score > lower) {
+          lower = Math.min(score, upper);
+          this.move = move;
+        }
+      } else {
+        upper = Math.max(lower, Math.min(score, upper));
+      }
+      guess = score;
+      store.store(index, lower, upper, this.move, SolutionStore.MAX_WORK);
+    }
+
+    synchronized SolverResult toResult(final long nodes, final long elapsedNanos) {
+      return new SolverResult(lower, upper, move, nodes, elapsedNanos);
+    }
+  }
+
+  /** Usage: {@code Solver <beadsPerWell> <file> [storeMegabytes [tablebase]]} */
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 2 || args.length > 4) {
+      System.err.println("Usage: Solver <beadsPerWell> <file> [storeMegabytes [tablebase]]");
+      System.exit(1);
+    }
+    final int beadsPerWell = Integer.parseInt(args[0]);
+    final int storeMegabytes = args.length > 2 ? Integer.parseInt(args[2]) : 1024;
+    final int threads = Runtime.getRuntime().availableProcessors();
+    final int tableMegabytes = (int) Math.max(1, Runtime.getRuntime().maxMemory() / 4 >> 20);
+    final PackedBoard board = createStartingBoard(beadsPerWell);
+
+    try (final SolutionStore store = SolutionStore.open(Paths.get(args[1]), storeMegabytes);
+        final Tablebase tablebase = args.length > 3 ? Tablebase.open(Paths.get(args[3])) : null;
+        final Solver solver = new Solver(store, tablebase, threads, tableMegabytes)) {
+      System.out.printf(
+          "Solving %d beads per well with %d threads, %d MB table, %d entry store%n",
+          beadsPerWell, threads, tableMegabytes, store.getCapacity());
+      final SolverResult result =
+          solver.solve(board, UNLIMITED, CHECKPOINT_INTERVAL, System.out::println);
+      System.out.println(result);
+    }
+  }
+}
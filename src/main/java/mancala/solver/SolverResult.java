@@ -0,0 +1,29 @@
+package mancala.solver;
+
+@lombok.Value
+public class SolverResult {
+  private final int lowerBound;
+  private final int upperBound;
+  private final int playerWellIndex;
+  private final long nodes;
+  private final long elapsedNanos;
+
+  public boolean isSolved() {
+    return lowerBound == upperBound;
+  }
+
+  public long getNodesPerSecond() {
+    return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000L / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s | Well %d | %d nodes | %d nodes/s | %.1fs",
+        isSolved() ? "Value " + lowerBound : "Value in [" + lowerBound + ", " + upperBound + "]",
+        playerWellIndex,
+        nodes,
+        getNodesPerSecond(),
+        elapsedNanos / 1e9);
+  }
+}
@@ -0,0 +1,256 @@
+package mancala.solver;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+import mancala.PackedBoard;
+import mancala.search.AlphaBetaSearch;
+import mancala.search.TranspositionTable;
+import mancala.tablebase.Tablebase;
+import mancala.tablebase.TablebaseIndex;
+
+/**
+ * Fail-soft negamax to the end of the game with a null window, answering whether a position's value
+ * is at least a test value. Scores are the beads the player to move will bank from now on minus the
+ * opponent's, so a move's score is what it banks plus or minus its child's, and the window is
+ * shifted by what the move banked on the way down.
+ *
+ * <p>Bounds go into a shared {@link TranspositionTable} on the heap, whose depth field holds the
+ * log2 of the nodes a subtree took so that expensive entries are kept. Subtrees that took at least
+ * {@code 2^minStoredWork} nodes also go into the {@link SolutionStore}, which is probed after the
+ * table. Neither cuts the root short, so every test that finishes knows the move that reached its
+ * result. Instances reuse their per-ply boards and are not thread-safe.
+ */
+final class SolverSearch {
+  private static final int NODES_BETWEEN_STOP_CHECKS = 4096;
+  private static final int INFINITY = SolutionStore.NO_UPPER_BOUND;
+  private static final long MIX = 0x9e3779b97f4a7c15L;
+
+  private final TranspositionTable table;
+  private final SolutionStore store;
+  private final Tablebase tablebase;
+  private final int helperIndex;
+  private final int minStoredWork;
+
+  private PackedBoard[][] children = new PackedBoard[0][];
+  private int[][] gains = new int[0][];
+  private int[][] order = new int[0][];
+  private int[][] priorities = new int[0][];
+  private int[] moveOffsets = new int[0];
+
+  private long nodes;
+  private volatile long publishedNodes;
+  private BooleanSupplier stop;
+  private boolean aborted;
+  private int rootMove;
+
+  SolverSearch(
+      final TranspositionTable table,
+      final SolutionStore store,
+      final Tablebase tablebase,
+      final int helperIndex,
+      final int minStoredWork) {
+    this.table = table;
+    this.store = store;
+    this.tablebase = tablebase;
+    this.helperIndex = helperIndex;
+    this.minStoredWork = minStoredWork;
+  }
+
+  /**
+   * @return the value if it lies below {@code gamma}, otherwise a lower bound of at least {@code
+   *     gamma}; meaningless if {@link #isAborted()}
+   */
+  int test(final PackedBoard board, final int gamma, final BooleanSupplier stop) {
+    this.stop = stop;
+    aborted = false;
+    rootMove = -1;
+    final int score = negamax(board, 0, gamma - 1, gamma);
+    publishedNodes = nodes;
+    return score;
+  }
+
+  /**
+   * @return the nodes searched so far, safe to read from any thread; while a test runs, as of its
+   *     last check for {@code stop}
+   */
+  long getNodes() {
+    return publishedNodes;
+  }
+
+  boolean isAborted() {
+    return aborted;
+  }
+
+  /**
+   * @return the move that reached the last result at the root, or {@code -1} if none was searched
+   */
+  int getRootMove() {
+    return rootMove;
+  }
+
+  private int negamax(final PackedBoard board, final int ply, final int alpha, final int beta) {
+    nodes++;
+    if (nodes % NODES_BETWEEN_STOP_CHECKS == 0) {
+      publishedNodes = nodes;
+      if (stop.getAsBoolean()) {
+        aborted = true;
+        return 0;
+      }
+    }
+    if (tablebase != null && tablebase.covers(board)) {
+      return tablebase.probe(board);
+    }
+    final int beads = TablebaseIndex.beadsInPlayerWells(board);
+    if (beads <= alpha) {
+      return beads;
+    }
+    if (-beads >= beta) {
+      return -beads;
+    }
+
+    final long index = TablebaseIndex.indexOf(board);
+    final long hash = (index + 1) * MIX;
+    int tableMove = -1;
+    final long entry = table.probe(hash);
+    if (entry != 0) {
+      tableMove = TranspositionTable.moveOf(entry);
+      final int score = TranspositionTable.scoreOf(entry);
+      final int bound = TranspositionTable.boundOf(entry);
+      if (ply > 0
+          && (bound == TranspositionTable.EXACT
+              || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+              || (bound == TranspositionTable.UPPER_BOUND && score <= alpha))) {
+        return score;
+      }
+    }
+    if (ply > 0 && store != null) {
+      final long data = store.probe(index);
+      if (data != 0) {
+        final int lower = SolutionStore.lowerOf(data);
+        final int upper = SolutionStore.upperOf(data);
+        if (lower >= beta || lower == upper) {
+          return lower;
+        }
+        if (upper <= alpha) {
+          return upper;
+        }
+        if (tableMove == -1) {
+          tableMove = SolutionStore.moveOf(data);
+        }
+      }
+    }
+
+    final long nodesBefore = nodes;
+    final int count = orderChildren(board, ply, tableMove);
+    int lowerBound = alpha;
+    int best = -INFINITY;
+    int bestMove = order[ply][0];
+    for (int i = 0; i < count; i++) {
+      final int move = order[ply][i];
+      final PackedBoard child = children[ply][move];
+      final int gain = gains[ply][move];
+      final int score =
+          child.isGameOver()
+              ? gain
+              : child.getCurrentPlayerNumber() == board.getCurrentPlayerNumber()
+                  ? gain + negamax(child, ply + 1, lowerBound - gain, beta - gain)
+                  : gain - negamax(child, ply + 1, gain - beta, gain - lowerBound);
+      if (aborted) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestMove = move;
+      }
+      if (best > lowerBound) {
+        lowerBound = best;
+      }
+      if (lowerBound >= beta) {
+        break;
+      }
+    }
+    if (ply == 0) {
+      rootMove = bestMove;
+    }
+
+    final int work = 63 - Long.numberOfLeadingZeros(nodes - nodesBefore + 1);
+    final int bound =
+        best <= alpha
+            ? TranspositionTable.UPPER_BOUND
+            : best >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+    table.store(hash, work, bound, bestMove, best);
+    if (store != null && work >= minStoredWork) {
+      store.store(
+          index,
+          bound == TranspositionTable.UPPER_BOUND ? SolutionStore.NO_LOWER_BOUND : best,
+          bound == TranspositionTable.LOWER_BOUND ? SolutionStore.NO_UPPER_BOUND : best,
+          bound == TranspositionTable.UPPER_BOUND ? -1 : bestMove,
+          work);
+    }
+    return best;
+  }
+
+  /**
+   * Plays every legal move into the ply's child boards, noting what each banks for the mover, and
+   * orders them with the table move first, then captures, then extra turns, then the rest. Moves of
+   * equal priority are rotated by {@link AlphaBetaSearch#moveOffsetOf(int, int)}.
+   */
+  private int orderChildren(final PackedBoard board, final int ply, final int tableMove) {
+    if (ply == children.length) {
+      grow();
+    }
+    final int player = board.getCurrentPlayerNumber();
+    final int legalMoves = board.getLegalMoves();
+    int count = 0;
+    for (int k = 0; k < 6; k++) {
+      final int move = (k + moveOffsets[ply]) % 6;
+      if ((legalMoves & (1 << move)) == 0) {
+        continue;
+      }
+      final PackedBoard child = children[ply][move];
+      child.copyFrom(board);
+      final int flags = child.applyMove(move);
+      gains[ply][move] =
+          child.getHomeBaseBeads(player)
+              - board.getHomeBaseBeads(player)
+              - child.getHomeBaseBeads(3 - player)
+              + board.getHomeBaseBeads(3 - player);
+      final int priority =
+          move == tableMove
+              ? 0
+              : (flags & PackedBoard.CAPTURE) != 0
+                  ? 1
+                  : (flags & PackedBoard.EXTRA_TURN) != 0 ? 2 : 3;
+
+      int i = count++;
+      while (i > 0 && priorities[ply][i - 1] > priority) {
+        order[ply][i] = order[ply][i - 1];
+        priorities[ply][i] = priorities[ply][i - 1];
+        i--;
+      }
+      order[ply][i] = move;
+      priorities[ply][i] = priority;
+    }
+    return count;
+  }
+
+  private void grow() {
+    final int plies = children.length;
+    final int grown = Math.max(64, plies * 2);
+    children = Arrays.copyOf(children, grown);
+    gains = Arrays.copyOf(gains, grown);
+    order = Arrays.copyOf(order, grown);
+    priorities = Arrays.copyOf(priorities, grown);
+    moveOffsets = Arrays.copyOf(moveOffsets, grown);
+    for (int ply = plies; ply < grown; ply++) {
+      children[ply] = new PackedBoard[6];
+      for (int i = 0; i < 6; i++) {
+        children[ply][i] = PackedBoard.createStartingBoard();
+      }
+      gains[ply] = new int[6];
+      order[ply] = new int[6];
+      priorities[ply] = new int[6];
+      moveOffsets[ply] = AlphaBetaSearch.moveOffsetOf(helperIndex, ply);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package mancala.tablebase;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import mancala.PackedBoard;
+
+/**
+ * Read-only view of a file written by {@link TablebaseGenerator}. The file is memory-mapped, so
+ * every JVM on a host probing the same file shares one copy in the page cache.
+ *
+ * <p>Each position is stored as one signed byte: how many more beads the player to move will bank
+ * than the opponent from now on with perfect play by both sides.
+ */
+public class Tablebase implements Closeable {
+  static final int MAGIC = 0x4d4e5442;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 3 * Integer.BYTES;
+  static final int MAX_SUPPORTED_BEADS = 24;
+
+  private final FileChannel channel;
+  private final MappedByteBuffer values;
+  private final int maxBeads;
+
+  private Tablebase(final FileChannel channel) throws IOException {
+    this.channel = channel;
+    final MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+    if (channel.size() < HEADER_SIZE
+        || buffer.getInt(0) != MAGIC
+        || buffer.getInt(Integer.BYTES) != VERSION) {
+      throw new IOException("Not a tablebase file");
+    }
+    this.maxBeads = buffer.getInt(2 * Integer.BYTES);
+    if (maxBeads < 0
+        || maxBeads > MAX_SUPPORTED_BEADS
+        || channel.size() != HEADER_SIZE + TablebaseIndex.sizeFor(maxBeads)) {
+      throw new IOException("Corrupt tablebase file");
+    }
+    this.values = buffer;
+  }
+
+  public static Tablebase open(final Path path) throws IOException {
+    final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new Tablebase(channel);
+    } catch (final IOException exception) {
+      channel.close();
+      throw exception;
+    }
+  }
+
+  public int getMaxBeads() {
+    return maxBeads;
+  }
+
+  public boolean covers(final PackedBoard board) {
+    return !board.isGameOver() && TablebaseIndex.beadsInPlayerWells(board) <= maxBeads;
+  }
+
+  /** @return how many more beads the player to move will bank than the opponent from now on. */
+  public int probe(final PackedBoard board) {
+    return valueAt(TablebaseIndex.indexOf(board));
+  }
+
+  public int getBestMove(final PackedBoard board) {
+    final PackedBoard child = board.copy();
+    int bestMove = -1;
+    int bestValue = Integer.MIN_VALUE;
+    for (int move = 0; move < 6; move++) {
+      if (board.isLegalMove(move)) {
+        final int value = TablebaseIndex.valueAfterMove(board, move, child, this::valueAt);
+        if (value > bestValue) {
+          bestValue = value;
+          bestMove = move;
+        }
+      }
+    }
+    return bestMove;
+  }
+
+  private int valueAt(final long index) {
+    return values.get(HEADER_SIZE + (int) index);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
@@ -0,0 +1,99 @@
+package mancala.tablebase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import mancala.PackedBoard;
+
+/**
+ * Solves every position with at most {@code maxBeads} beads in the player wells. Positions only
+ * lead to positions with as many or fewer beads, and moves that keep the count the same carry beads
+ * strictly closer to the mover's home base, so a memoized search over each count terminates and
+ * fills the table bottom-up without a separate retrograde pass.
+ */
+public class TablebaseGenerator {
+  private static final byte UNKNOWN = Byte.MIN_VALUE;
+
+  private final byte[] values;
+
+  private TablebaseGenerator(final int maxBeads) {
+    if (maxBeads < 0 || maxBeads > Tablebase.MAX_SUPPORTED_BEADS) {
+      throw new IllegalArgumentException();
+    }
+    this.values = new byte[(int) TablebaseIndex.sizeFor(maxBeads)];
+    Arrays.fill(values, UNKNOWN);
+  }
+
+  public static byte[] generate(final int maxBeads) {
+    final TablebaseGenerator generator = new TablebaseGenerator(maxBeads);
+    for (int index = 0; index < generator.values.length; index++) {
+      generator.valueOf(index);
+    }
+    return generator.values;
+  }
+
+  public static void write(final Path path, final int maxBeads) throws IOException {
+    final byte[] values = generate(maxBeads);
+    try (final FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      final ByteBuffer header = ByteBuffer.allocate(Tablebase.HEADER_SIZE);
+      header.putInt(Tablebase.MAGIC).putInt(Tablebase.VERSION).putInt(maxBeads).flip();
+      final ByteBuffer[] buffers = {header, ByteBuffer.wrap(values)};
+      while (buffers[1].hasRemaining()) {
+        channel.write(buffers);
+      }
+      channel.force(true);
+    }
+  }
+
+  private int valueOf(final long index) {
+    if (values[(int) index] != UNKNOWN) {
+      return values[(int) index];
+    }
+
+    final int[] playerWells = new int[TablebaseIndex.WELLS];
+    TablebaseIndex.wellsOf(index, playerWells);
+    final int[] wells = new int[PackedBoard.SIZE];
+    System.arraycopy(playerWells, 0, wells, 0, 6);
+    System.arraycopy(playerWells, 6, wells, 7, 6);
+    final PackedBoard board = new PackedBoard(wells, 1);
+
+    int value;
+    if (board.isGameOver()) {
+      value = Arrays.stream(playerWells, 0, 6).sum() - Arrays.stream(playerWells, 6, 12).sum();
+    } else {
+      value = Integer.MIN_VALUE;
+      final PackedBoard child = board.copy();
+      for (int move = 0; move < 6; move++) {
+        if (board.isLegalMove(move)) {
+          value = Math.max(value, TablebaseIndex.valueAfterMove(board, move, child, this::valueOf));
+        }
+      }
+    }
+
+    values[(int) index] = (byte) value;
+    return value;
+  }
+
+  /** Usage: {@code TablebaseGenerator <maxBeads> <file>} */
+  public static void main(final String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: TablebaseGenerator <maxBeads> <file>");
+      System.exit(1);
+    }
+    final int maxBeads = Integer.parseInt(args[0]);
+    final long start = System.nanoTime();
+    write(Paths.get(args[1]), maxBeads);
+    System.out.printf(
+        "Solved %d positions with up to %d beads in %.1fs%n",
+        TablebaseIndex.sizeFor(maxBeads), maxBeads, (System.nanoTime() - start) / 1e9);
+  }
+}
@@ -0,0 +1,73 @@
+package mancala.tablebase;
+
+import java.util.function.LongToIntFunction;
+import mancala.Compositions;
+import mancala.PackedBoard;
+
+/**
+ * Dense index of the twelve player wells seen from the player to move: their own six wells first,
+ * then the opponent's six. Positions are grouped by bead count, and within a group ranked as one of
+ * the {@link Compositions} of that count into twelve parts.
+ */
+public final class TablebaseIndex {
+  static final int WELLS = 12;
+
+  private TablebaseIndex() {}
+
+  /** Number of positions with at most {@code maxBeads} beads in the player wells. */
+  static long sizeFor(final int maxBeads) {
+    return Compositions.binomial(maxBeads + WELLS, WELLS);
+  }
+
+  public static int beadsInPlayerWells(final PackedBoard board) {
+    return board.getBeadsInPlayerWells(1) + board.getBeadsInPlayerWells(2);
+  }
+
+  public static long indexOf(final PackedBoard board) {
+    final int player = board.getCurrentPlayerNumber();
+    final int beads = beadsInPlayerWells(board);
+
+    long index = sizeFor(beads - 1);
+    int remaining = beads;
+    for (int i = 0; i < WELLS - 1; i++) {
+      final int wellBeads = i < 6 ? board.getBeads(player, i) : board.getBeads(3 - player, i - 6);
+      index += Compositions.countBefore(wellBeads, remaining, WELLS - i);
+      remaining -= wellBeads;
+    }
+    return index;
+  }
+
+  /**
+   * Plays {@code move} into {@code child} and returns how many more beads the player to move ends
+   * up with than the opponent, given the values of the positions that can follow.
+   */
+  static int valueAfterMove(
+      final PackedBoard board,
+      final int move,
+      final PackedBoard child,
+      final LongToIntFunction values) {
+    final int player = board.getCurrentPlayerNumber();
+    child.copyFrom(board);
+    child.applyMove(move);
+
+    final int gain =
+        child.getHomeBaseBeads(player)
+            - board.getHomeBaseBeads(player)
+            - child.getHomeBaseBeads(3 - player)
+            + board.getHomeBaseBeads(3 - player);
+    if (child.isGameOver()) {
+      return gain;
+    }
+    final int childValue = values.applyAsInt(indexOf(child));
+    return child.getCurrentPlayerNumber() == player ? gain + childValue : gain - childValue;
+  }
+
+  /** Fills {@code wells} with the player wells, player to move first, for {@code index}. */
+  static void wellsOf(final long index, final int[] wells) {
+    int beads = 0;
+    while (sizeFor(beads) <= index) {
+      beads++;
+    }
+    Compositions.unrank(index - sizeFor(beads - 1), beads, wells);
+  }
+}
@@ -0,0 +1,33 @@
+package mancala.tournament;
+
+@lombok.Value
+public class Standings {
+  private final long gamesPlayed;
+  private final long wins;
+  private final long draws;
+  private final long losses;
+  private final long totalMargin;
+  private final long elapsedNanos;
+
+  public double getAverageMargin() {
+    return gamesPlayed == 0 ? 0 : (double) totalMargin / gamesPlayed;
+  }
+
+  /** @return the Elo difference that would give this score on average, capped near ±1200 */
+  public double getElo() {
+    final double score = gamesPlayed == 0 ? 0.5 : (wins + draws / 2.0) / gamesPlayed;
+    final double capped = Math.max(1e-3, Math.min(1 - 1e-3, score));
+    return -400 * Math.log10(1 / capped - 1);
+  }
+
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : gamesPlayed * 1e9 / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%d games | %d W / %d D / %d L | Margin %+.2f | %.0f games/s",
+        gamesPlayed, wins, draws, losses, getAverageMargin(), getGamesPerSecond());
+  }
+}
@@ -0,0 +1,222 @@
+package mancala.tournament;
+
+import static io.vavr.Predicates.not;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import mancala.Board;
+import mancala.Game;
+import mancala.Game.FinishedGame;
+import mancala.PackedBoard;
+import mancala.Player;
+import mancala.State.AwaitingPlayerChoice;
+import mancala.player.MonteCarloPlayer;
+import mancala.player.PiratePlayer;
+import mancala.player.SearchPlayer;
+import mancala.player.TranspositionSearchPlayer;
+import one.util.streamex.EntryStream;
+import one.util.streamex.IntStreamEx;
+import one.util.streamex.StreamEx;
+
+/**
+ * Plays many games between two {@link Player} factories without printing any state. Each pair of
+ * games starts from the same random opening with the seats swapped, and standings are kept from the
+ * point of view of the first factory.
+ */
+public class Tournament {
+  private static final Map<String, IntFunction<Player>> PLAYERS =
+      EntryStream.<String, IntFunction<Player>>of(
+              "pirate", PiratePlayer::new,
+              "search", playerNumber -> new SearchPlayer(playerNumber, Duration.ofMillis(10), 64),
+              "transposition", playerNumber -> new TranspositionSearchPlayer(playerNumber, 8),
+              "montecarlo",
+                  playerNumber ->
+                      new MonteCarloPlayer(
+                          playerNumber, 1, Duration.ofMillis(10), Long.MAX_VALUE, playerNumber))
+          .toImmutableMap();
+
+  private final IntFunction<Player> playerFactory;
+  private final IntFunction<Player> opponentFactory;
+  private final int openingPlies;
+  private final long seed;
+
+  public Tournament(
+      final IntFunction<Player> playerFactory,
+      final IntFunction<Player> opponentFactory,
+      final int openingPlies,
+      final long seed) {
+    this.playerFactory = playerFactory;
+    this.opponentFactory = opponentFactory;
+    this.openingPlies = openingPlies;
+    this.seed = seed;
+  }
+
+  /**
+   * Plays {@code games} games on {@code parallelism} tasks submitted to {@code executor}, calling
+   * {@code progress} with the standings every {@code reportEvery} games. Those calls come from the
+   * worker tasks but never overlap, so {@code progress} need not be thread-safe. Players that are
+   * {@link Closeable} are closed after each game.
+   */
+  public Standings play(
+      final long games,
+      final Executor executor,
+      final int parallelism,
+      final long reportEvery,
+      final Consumer<Standings> progress) {
+    final long start = System.nanoTime();
+    final AtomicLong nextGame = new AtomicLong();
+    final Tally tally = new Tally();
+
+    final CompletableFuture<?>[] workers =
+        IntStreamEx.range(parallelism)
+            .mapToObj(
+                i ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                          for (long game = nextGame.getAndIncrement();
+                              game < games;
+                              game = nextGame.getAndIncrement()) {
+                            tally.record(game, play(game));
+                            if (reportEvery > 0 && (game + 1) % reportEvery == 0) {
+                              synchronized (tally) {
+                                progress.accept(tally.getStandings(start));
+                              }
+                            }
+                          }
+                        },
+                        executor))
+            .toArray(CompletableFuture<?>[]::new);
+    CompletableFuture.allOf(workers).join();
+
+    return tally.getStandings(start);
+  }
+
+  private FinishedGame play(final long game) {
+    final boolean playerFirst = game % 2 == 0;
+    final Player playerOne = (playerFirst ? playerFactory : opponentFactory).apply(1);
+    final Player playerTwo = (playerFirst ? opponentFactory : playerFactory).apply(2);
+
+    try {
+      final PackedBoard opening = createOpening(game / 2);
+      Game current =
+          new Game(
+              playerOne,
+              playerTwo,
+              opening.toBoard(),
+              new AwaitingPlayerChoice(
+                  opening.getCurrentPlayerNumber() == 1 ? playerOne : playerTwo, false));
+
+      while (!(current instanceof FinishedGame)) {
+        current = current.progress();
+      }
+      return (FinishedGame) current;
+    } finally {
+      try {
+        close(playerOne);
+      } finally {
+        close(playerTwo);
+      }
+    }
+  }
+
+  private static void close(final Player player) {
+    if (player instanceof Closeable) {
+      try {
+        ((Closeable) player).close();
+      } catch (final IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    }
+  }
+
+  private PackedBoard createOpening(final long opening) {
+    final SplittableRandom random = new SplittableRandom(seed + opening * 0x9E3779B97F4A7C15L);
+
+    final PackedBoard board = PackedBoard.createStartingBoard();
+    for (int ply = 0; ply < openingPlies; ply++) {
+      final PackedBoard next = board.copy();
+      int move;
+      do {
+        move = random.nextInt(6);
+      } while (!next.isLegalMove(move));
+      next.applyMove(move);
+      if (next.isGameOver()) {
+        break;
+      }
+      board.copyFrom(next);
+    }
+    return board;
+  }
+
+  private static class Tally {
+    private final LongAdder gamesPlayed = new LongAdder();
+    private final LongAdder wins = new LongAdder();
+    private final LongAdder draws = new LongAdder();
+    private final LongAdder losses = new LongAdder();
+    private final LongAdder totalMargin = new LongAdder();
+
+    void record(final long game, final FinishedGame finishedGame) {
+      final int playerNumber = game % 2 == 0 ? 1 : 2;
+      final Board board = finishedGame.getBoard();
+      totalMargin.add(
+          board.getWells().get(playerNumber == 1 ? 6 : 13).getNumberOfBeads()
+              - board.getWells().get(playerNumber == 1 ? 13 : 6).getNumberOfBeads());
+
+      if (finishedGame.isDraw()) {
+        draws.increment();
+      } else if (finishedGame.getWinningPlayer().get().getPlayerNumber() == playerNumber) {
+        wins.increment();
+      } else {
+        losses.increment();
+      }
+      gamesPlayed.increment();
+    }
+
+    Standings getStandings(final long start) {
+      return new Standings(
+          gamesPlayed.sum(),
+          wins.sum(),
+          draws.sum(),
+          losses.sum(),
+          totalMargin.sum(),
+          System.nanoTime() - start);
+    }
+  }
+
+  /** Usage: {@code Tournament <player> <opponent> [games] [openingPlies] [parallelism]} */
+  public static void main(final String[] args) {
+    if (args.length < 2 || StreamEx.of(args).limit(2).anyMatch(not(PLAYERS::containsKey))) {
+      System.err.printf(
+          "Usage: Tournament <player> <opponent> [games] [openingPlies] [parallelism]%n"
+              + "Players: %s%n",
+          PLAYERS.keySet());
+      System.exit(1);
+    }
+    final long games = args.length > 2 ? Long.parseLong(args[2]) : 10_000;
+    final int openingPlies = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+    final int parallelism =
+        args.length > 4 ? Integer.parseInt(args[4]) : ForkJoinPool.getCommonPoolParallelism();
+
+    final Standings standings =
+        new Tournament(PLAYERS.get(args[0]), PLAYERS.get(args[1]), openingPlies, 0)
+            .play(
+                games,
+                ForkJoinPool.commonPool(),
+                parallelism,
+                Math.max(1, games / 20),
+                progress -> System.out.println(progress));
+
+    System.out.printf("%s v %s | %s%n", args[0], args[1], standings);
+  }
+}
@@ -0,0 +1,16 @@
+package mancala.tuning;
+
+import mancala.search.WeightedEvaluation;
+import mancala.tournament.Standings;
+
+@lombok.Value
+public class SpsaStep {
+  private final int iteration;
+  private final WeightedEvaluation evaluation;
+  private final Standings standings;
+
+  @Override
+  public String toString() {
+    return String.format("Iteration %d | %s | %s", iteration, evaluation, standings);
+  }
+}
@@ -0,0 +1,159 @@
+package mancala.tuning;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import mancala.Player;
+import mancala.player.TranspositionSearchPlayer;
+import mancala.search.TranspositionTable;
+import mancala.search.WeightedEvaluation;
+import mancala.tournament.Standings;
+import mancala.tournament.Tournament;
+
+/**
+ * Tunes the weights of a {@link WeightedEvaluation} by simultaneous perturbation stochastic
+ * approximation (SPSA). Each iteration moves every tunable weight up or down at random by the same
+ * step, plays the two resulting evaluations against each other in a {@link Tournament} spread over
+ * all cores, and shifts the weights towards the side that won by more beads. Step and perturbation
+ * sizes shrink over the iterations with the usual SPSA exponents.
+ *
+ * <p>The store weight stays where it starts, since it ties evaluations to the bead counts of
+ * finished games that the search compares them with.
+ */
+public class SpsaTuner {
+  private static final double STEP_DECAY = 0.602;
+  private static final double PERTURBATION_DECAY = 0.101;
+  private static final int TABLE_SIZE_IN_MEGABYTES = 1;
+
+  private final int depth;
+  private final int gamesPerIteration;
+  private final int openingPlies;
+  private final double learningRate;
+  private final double perturbation;
+  private final long seed;
+
+  public SpsaTuner(
+      final int depth,
+      final int gamesPerIteration,
+      final int openingPlies,
+      final double learningRate,
+      final double perturbation,
+      final long seed) {
+    if (gamesPerIteration < 2 || gamesPerIteration % 2 != 0) {
+      throw new IllegalArgumentException("Games are played in pairs with the seats swapped");
+    }
+    this.depth = depth;
+    this.gamesPerIteration = gamesPerIteration;
+    this.openingPlies = openingPlies;
+    this.learningRate = learningRate;
+    this.perturbation = perturbation;
+    this.seed = seed;
+  }
+
+  /** Runs {@code iterations} iterations from {@code start}, telling {@code progress} after each. */
+  public WeightedEvaluation tune(
+      final WeightedEvaluation start,
+      final int iterations,
+      final Executor executor,
+      final int parallelism,
+      final Consumer<SpsaStep> progress) {
+    final SplittableRandom random = new SplittableRandom(seed);
+    final double[] weights = start.getWeights();
+    final double stability = iterations / 10.0;
+
+    for (int k = 0; k < iterations; k++) {
+      final double step = learningRate / Math.pow(k + 1 + stability, STEP_DECAY);
+      final double size = perturbation / Math.pow(k + 1, PERTURBATION_DECAY);
+      final double[] directions = new double[weights.length];
+      final double[] plus = weights.clone();
+      final double[] minus = weights.clone();
+      for (int i = WeightedEvaluation.Feature.STORE.ordinal() + 1; i < weights.length; i++) {
+        directions[i] = random.nextBoolean() ? 1 : -1;
+        plus[i] += size * directions[i];
+        minus[i] -= size * directions[i];
+      }
+
+      final Standings standings =
+          match(
+              new WeightedEvaluation(plus),
+              new WeightedEvaluation(minus),
+              gamesPerIteration,
+              seed + k,
+              executor,
+              parallelism);
+      for (int i = 0; i < weights.length; i++) {
+        if (directions[i] != 0) {
+          weights[i] += step * standings.getAverageMargin() / (2 * size * directions[i]);
+        }
+      }
+      progress.accept(new SpsaStep(k + 1, new WeightedEvaluation(weights), standings));
+    }
+    return new WeightedEvaluation(weights);
+  }
+
+  /**
+   * Plays {@code evaluation} against {@code opponent}, standings from the first's point of view.
+   */
+  public Standings match(
+      final WeightedEvaluation evaluation,
+      final WeightedEvaluation opponent,
+      final long games,
+      final long openingSeed,
+      final Executor executor,
+      final int parallelism) {
+    return new Tournament(playerFor(evaluation), playerFor(opponent), openingPlies, openingSeed)
+        .play(games, executor, parallelism, 0, standings -> {});
+  }
+
+  private IntFunction<Player> playerFor(final WeightedEvaluation evaluation) {
+    return playerNumber ->
+        new TranspositionSearchPlayer(
+            playerNumber, depth, new TranspositionTable(TABLE_SIZE_IN_MEGABYTES), evaluation);
+  }
+
+  /**
+   * Usage: {@code SpsaTuner <iterations> <weights> [gamesPerIteration] [depth] [matchGames]}
+   *
+   * <p>Starts from the weights file if it exists, writes the tuned weights back to it, and plays
+   * the tuned weights against the starting ones to show the gain.
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println(
+          "Usage: SpsaTuner <iterations> <weights> [gamesPerIteration] [depth] [matchGames]");
+      System.exit(1);
+    }
+    final int iterations = Integer.parseInt(args[0]);
+    final Path path = Paths.get(args[1]);
+    final int gamesPerIteration = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+    final int depth = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+    final long matchGames = args.length > 4 ? Long.parseLong(args[4]) : 2000;
+    final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+
+    final WeightedEvaluation start =
+        Files.exists(path) ? WeightedEvaluation.load(path) : WeightedEvaluation.DEFAULT;
+    final SpsaTuner tuner = new SpsaTuner(depth, gamesPerIteration, 4, 0.05, 0.25, 0);
+
+    final long startNanos = System.nanoTime();
+    final WeightedEvaluation tuned =
+        tuner.tune(start, iterations, ForkJoinPool.commonPool(), parallelism, System.out::println);
+    final long elapsedNanos = System.nanoTime() - startNanos;
+    tuned.write(path);
+    System.out.printf(
+        "Tuned with %d games in %.1fs | %.0f games/s on %d threads%n",
+        (long) iterations * gamesPerIteration,
+        elapsedNanos / 1e9,
+        (double) iterations * gamesPerIteration * 1e9 / elapsedNanos,
+        parallelism);
+
+    final Standings standings =
+        tuner.match(tuned, start, matchGames, -1, ForkJoinPool.commonPool(), parallelism);
+    System.out.printf("tuned v start | %s | Elo %+.0f%n", standings, standings.getElo());
+  }
+}
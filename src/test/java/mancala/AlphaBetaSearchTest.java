@@ -0,0 +1,50 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import mancala.player.SearchPlayer;
+import mancala.search.AlphaBetaSearch;
+import mancala.search.SearchResult;
+import org.junit.jupiter.api.Test;
+
+class AlphaBetaSearchTest {
+  private static final Duration UNLIMITED = Duration.ofDays(1);
+
+  @Test
+  void shouldFindCaptureThatEndsTheGame() {
+    final PackedBoard board =
+        new PackedBoard(new int[] {1, 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 7, 0, 0}, 1);
+
+    final SearchResult result =
+        new AlphaBetaSearch().search(board, UNLIMITED, AlphaBetaSearch.MAX_DEPTH);
+
+    assertThat(result.getPlayerWellIndex()).isZero();
+    assertThat(result.getScore()).isEqualTo(10);
+    assertThat(result.getDepth()).isLessThan(AlphaBetaSearch.MAX_DEPTH);
+  }
+
+  @Test
+  void shouldNotNegateScoreAfterExtraTurn() {
+    final PackedBoard board =
+        new PackedBoard(new int[] {0, 0, 0, 1, 0, 1, 10, 2, 0, 0, 0, 0, 0, 0}, 1);
+
+    final SearchResult result = new AlphaBetaSearch().search(board, UNLIMITED, 1);
+
+    assertThat(result.getPlayerWellIndex()).isEqualTo(5);
+    assertThat(result.getScore()).isEqualTo(11);
+    assertThat(result.getDepth()).isOne();
+  }
+
+  @Test
+  void shouldPlaySearchedMove() throws Move.IllegalMoveException {
+    final SearchPlayer player = new SearchPlayer(2, UNLIMITED, AlphaBetaSearch.MAX_DEPTH);
+    final Board board =
+        new PackedBoard(new int[] {0, 0, 0, 0, 7, 0, 0, 1, 0, 0, 0, 0, 2, 0}, 2).toBoard();
+    final Game game =
+        new Game(new Player(1), player, board, new State.AwaitingPlayerChoice(player, false));
+
+    assertThat(player.makeMove(game).getWellIndex()).isZero();
+    assertThat(player.getLastResult().getScore()).isEqualTo(10);
+  }
+}
@@ -0,0 +1,117 @@
+package mancala;
+
+import static io.vavr.Predicates.not;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import mancala.Game.FinishedGame;
+import mancala.server.RemotePlayer;
+import one.util.streamex.StreamEx;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AsyncGameTest {
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void shouldFinishLikeSynchronousGame(final boolean animated) {
+    final FinishedGame synchronous =
+        StreamEx.iterate(
+                new Game(new RandomPlayer(1, 7), new RandomPlayer(2, 11), animated), Game::progress)
+            .dropWhile(not(FinishedGame.class::isInstance))
+            .select(FinishedGame.class)
+            .findFirst()
+            .get();
+    final FinishedGame asynchronous =
+        new Game(new RandomPlayer(1, 7), new RandomPlayer(2, 11), animated).playAsync().join();
+
+    assertThat(asynchronous.getBoard()).isEqualTo(synchronous.getBoard());
+    assertThat(asynchronous.getWinningPlayer()).isEqualTo(synchronous.getWinningPlayer());
+  }
+
+  @Test
+  void shouldParkWhilePlayerAnswersElsewhere() throws Exception {
+    final Executor later = CompletableFuture.delayedExecutor(1, TimeUnit.MILLISECONDS);
+    final List<Thread> answeringThreads = new CopyOnWriteArrayList<>();
+    final Player playerOne =
+        new RandomPlayer(1, 3) {
+          @Override
+          public CompletionStage<Move> makeMoveAsync(final Game game) {
+            return CompletableFuture.supplyAsync(
+                () -> {
+                  answeringThreads.add(Thread.currentThread());
+                  return super.makeMoveAsync(game).toCompletableFuture().join();
+                },
+                later);
+          }
+        };
+
+    final CompletableFuture<FinishedGame> finishedGame =
+        new Game(playerOne, new RandomPlayer(2, 5)).playAsync();
+
+    assertThat(finishedGame.get(10, TimeUnit.SECONDS)).isNotNull();
+    assertThat(answeringThreads).isNotEmpty().doesNotContain(Thread.currentThread());
+  }
+
+  @Test
+  void shouldInformAndAskAgainAfterIllegalMove() {
+    final List<Exception> informed = new CopyOnWriteArrayList<>();
+    final Player playerOne =
+        new RandomPlayer(1, 3) {
+          private boolean answered;
+
+          @Override
+          public CompletionStage<Move> makeMoveAsync(final Game game) {
+            if (!answered) {
+              answered = true;
+              return CompletableFuture.failedFuture(new Move.IllegalMoveException(6));
+            }
+            return super.makeMoveAsync(game);
+          }
+
+          @Override
+          public void inform(final Exception exception) {
+            informed.add(exception);
+          }
+        };
+
+    new Game(playerOne, new RandomPlayer(2, 5)).playAsync().join();
+
+    assertThat(informed).hasSize(1);
+  }
+
+  @Test
+  void shouldFailWhenPlayerFails() {
+    final Player playerOne =
+        new Player(1) {
+          @Override
+          public CompletionStage<Move> makeMoveAsync(final Game game) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Disconnected"));
+          }
+        };
+
+    final CompletableFuture<FinishedGame> finishedGame =
+        new Game(playerOne, new RandomPlayer(2, 5)).playAsync();
+
+    assertThat(finishedGame)
+        .failsWithin(1, TimeUnit.SECONDS)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldNotWaitForRemoteMoveSynchronously() {
+    final RemotePlayer player = new RemotePlayer(1);
+
+    assertThatThrownBy(() -> player.makeMove(new Game(player, new PiratePlayer(2))))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("No move has been received");
+  }
+}
@@ -0,0 +1,131 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import mancala.Game.FinishedGame;
+import mancala.batch.BatchGames;
+import mancala.batch.BatchPolicy;
+import one.util.streamex.IntStreamEx;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BatchGamesTest {
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void shouldFinishGamesLikeStateMachine(final boolean animated) {
+    final int size = 100;
+    final List<Queue<Integer>> moves =
+        IntStreamEx.range(size).<Queue<Integer>>mapToObj(i -> new ArrayDeque<>()).toList();
+    final BatchPolicy random = BatchPolicy.random(7);
+    final BatchGames batch = new BatchGames(size);
+
+    batch.play(
+        (games, game) -> {
+          final int move = random.chooseMove(games, game);
+          moves.get(game).add(move);
+          return move;
+        });
+
+    assertThat(batch.getRunning()).isZero();
+    assertThat(batch.getPlies()).isEqualTo(moves.stream().mapToInt(Queue::size).sum());
+    for (int game = 0; game < size; game++) {
+      final Queue<Integer> gameMoves = moves.get(game);
+      final FinishedGame finishedGame =
+          new Game(new ScriptedPlayer(1, gameMoves), new ScriptedPlayer(2, gameMoves), animated)
+              .playAsync()
+              .join();
+
+      assertThat(gameMoves).isEmpty();
+      assertThat(batch.isGameOver(game)).isTrue();
+      assertThat(batch.get(game).toBoard()).isEqualTo(finishedGame.getBoard());
+      assertThat(batch.getWinningPlayerNumber(game))
+          .isEqualTo(finishedGame.getWinningPlayer().map(Player::getPlayerNumber).orElse(0));
+    }
+  }
+
+  @Test
+  void shouldStepLikePackedBoard() {
+    final SplittableRandom random = new SplittableRandom(3);
+    final int size = 1000;
+    final BatchGames batch = new BatchGames(size);
+    final List<PackedBoard> boards = new ArrayList<>();
+    for (int game = 0; game < size; game++) {
+      final int[] wells = new int[PackedBoard.SIZE];
+      for (int bead = 0; bead < 48; bead++) {
+        wells[random.nextInt(game % 2 == 0 ? PackedBoard.SIZE : 3)] += 1;
+      }
+      wells[8] += 1;
+      final PackedBoard board = new PackedBoard(wells, 1 + random.nextInt(2));
+      boards.add(board);
+      batch.set(game, board);
+    }
+    final int running = (int) boards.stream().filter(board -> !board.isGameOver()).count();
+    assertThat(batch.getRunning()).isEqualTo(running);
+
+    while (batch.getRunning() > 0) {
+      final int[] chosen = new int[size];
+      batch.step(
+          (games, game) -> {
+            assertThat(games.getLegalMoves(game)).isEqualTo(boards.get(game).getLegalMoves());
+            chosen[game] = BatchPolicy.FIRST_LEGAL.chooseMove(games, game);
+            return chosen[game];
+          });
+
+      for (int game = 0; game < size; game++) {
+        final PackedBoard board = boards.get(game);
+        if (!board.isGameOver()) {
+          final int flags = board.applyMove(chosen[game]);
+          assertThat(batch.getFlags(game)).isEqualTo(flags);
+        }
+        assertThat(batch.get(game)).isEqualTo(board);
+      }
+    }
+  }
+
+  @Test
+  void shouldRefillSlotsUntilEnoughGamesArePlayed() {
+    final BatchGames batch = new BatchGames(64);
+    final BatchGames reference = new BatchGames(1);
+    final int[] outcomes = new int[3];
+
+    batch.play(
+        BatchPolicy.FIRST_LEGAL, 250, game -> outcomes[batch.getWinningPlayerNumber(game)]++);
+    reference.play(BatchPolicy.FIRST_LEGAL);
+
+    assertThat(outcomes[0] + outcomes[1] + outcomes[2]).isEqualTo(250);
+    assertThat(outcomes[reference.getWinningPlayerNumber(0)]).isEqualTo(250);
+    assertThat(batch.getPlies()).isEqualTo(250 * reference.getPlies());
+    assertThat(batch.getRunning()).isZero();
+  }
+
+  @Test
+  void shouldRejectIllegalMoves() {
+    final BatchGames batch = new BatchGames(4);
+    batch.set(2, new PackedBoard(new int[] {0, 4, 4, 4, 4, 4, 0, 4, 4, 4, 4, 4, 4, 4}, 1));
+
+    assertThatThrownBy(() -> batch.step((games, game) -> 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static class ScriptedPlayer extends Player {
+    private final Queue<Integer> moves;
+
+    ScriptedPlayer(final int playerNumber, final Queue<Integer> moves) {
+      super(playerNumber);
+      this.moves = moves;
+    }
+
+    @Override
+    public Move makeMove(final Game game) throws Move.IllegalMoveException {
+      return new Move(game.getBoard(), this, Optional.ofNullable(moves.poll()).orElseThrow());
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package mancala;
+
+import static io.vavr.Predicates.not;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import mancala.Game.FinishedGame;
+import mancala.event.GameEvent;
+import mancala.event.GameEventPublisher;
+import one.util.streamex.StreamEx;
+import org.junit.jupiter.api.Test;
+
+class GameEventPublisherTest {
+  private static final List<Game> ANIMATED_GAME =
+      StreamEx.iterate(
+              new Game(new RandomPlayer(1, 1), new RandomPlayer(2, 2), true), Game::progress)
+          .takeWhileInclusive(not(FinishedGame.class::isInstance))
+          .toList();
+
+  @Test
+  void shouldDeliverEveryEventInOrderToEverySpectator() {
+    final GameEventPublisher publisher = new GameEventPublisher(Runnable::run, 16);
+    final Spectator first = new Spectator(Long.MAX_VALUE);
+    final Spectator second = new Spectator(Long.MAX_VALUE);
+    publisher.subscribe(first);
+    publisher.subscribe(second);
+
+    ANIMATED_GAME.forEach(publisher::publish);
+    publisher.close();
+
+    for (final Spectator spectator : List.of(first, second)) {
+      assertThat(spectator.events).hasSize(ANIMATED_GAME.size());
+      assertThat(
+              StreamEx.of(spectator.events)
+                  .mapToLong(GameEvent::getSequence)
+                  .pairMap((a, b) -> b - a))
+          .containsOnly(1L);
+      assertThat(spectator.events.get(spectator.events.size() - 1).isFinished()).isTrue();
+      assertThat(spectator.completed).isTrue();
+    }
+  }
+
+  @Test
+  void shouldCoalesceBeadFramesForSlowSpectator() {
+    final GameEventPublisher publisher = new GameEventPublisher(Runnable::run, 8);
+    final Spectator slow = new Spectator(0);
+    publisher.subscribe(slow);
+
+    ANIMATED_GAME.forEach(publisher::publish);
+    publisher.close();
+    slow.subscription.request(Long.MAX_VALUE);
+
+    final long turnEvents =
+        StreamEx.of(ANIMATED_GAME)
+            .map(game -> GameEvent.of(0, game))
+            .remove(GameEvent::isCoalescable)
+            .count();
+    assertThat(turnEvents).isGreaterThan(8);
+    assertThat(slow.events).hasSize(8).noneMatch(GameEvent::isCoalescable);
+    assertThat(slow.events.get(7).isFinished()).isTrue();
+    assertThat(slow.completed).isTrue();
+  }
+
+  @Test
+  void shouldStartLateSpectatorFromLatestEvent() {
+    final GameEventPublisher publisher = new GameEventPublisher(Runnable::run, 4);
+    ANIMATED_GAME.subList(0, 10).forEach(publisher::publish);
+
+    final Spectator late = new Spectator(Long.MAX_VALUE);
+    publisher.subscribe(late);
+
+    assertThat(late.events).extracting(GameEvent::getSequence).containsExactly(10L);
+  }
+
+  @Test
+  void shouldStopDeliveringAfterCancel() {
+    final GameEventPublisher publisher = new GameEventPublisher(Runnable::run, 4);
+    final Spectator spectator = new Spectator(Long.MAX_VALUE);
+    publisher.subscribe(spectator);
+
+    publisher.publish(ANIMATED_GAME.get(0));
+    spectator.subscription.cancel();
+    publisher.publish(ANIMATED_GAME.get(1));
+
+    assertThat(spectator.events).hasSize(1);
+    assertThat(publisher.getSubscriberCount()).isZero();
+  }
+
+  @Test
+  void shouldIgnoreEventsAfterClose() {
+    final GameEventPublisher publisher = new GameEventPublisher(Runnable::run, 4);
+    final Spectator spectator = new Spectator(Long.MAX_VALUE);
+    publisher.subscribe(spectator);
+
+    publisher.publish(ANIMATED_GAME.get(0));
+    publisher.close();
+    publisher.publish(ANIMATED_GAME.get(1));
+
+    assertThat(spectator.events).hasSize(1);
+    assertThat(spectator.completed).isTrue();
+  }
+
+  private static class Spectator implements Flow.Subscriber<GameEvent> {
+    private final long initialDemand;
+    private final List<GameEvent> events = new CopyOnWriteArrayList<>();
+    private Flow.Subscription subscription;
+    private boolean completed;
+
+    Spectator(final long initialDemand) {
+      this.initialDemand = initialDemand;
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      this.subscription = subscription;
+      if (initialDemand > 0) {
+        subscription.request(initialDemand);
+      }
+    }
+
+    @Override
+    public void onNext(final GameEvent event) {
+      events.add(event);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      throw new AssertionError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import mancala.Game.FinishedGame;
+import mancala.State.AwaitingPlayerChoice;
+import mancala.journal.GameJournal;
+import mancala.journal.GameJournalReader;
+import mancala.journal.GameRecord;
+import mancala.journal.GameRecorder;
+import one.util.streamex.StreamEx;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class GameJournalTest {
+  @TempDir Path directory;
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void shouldReplayEveryPositionOfRecordedGames(final boolean animated) throws IOException {
+    final Path path = directory.resolve("games.journal");
+    final List<List<PackedBoard>> positions = new ArrayList<>();
+
+    try (final GameJournal journal = GameJournal.open(path)) {
+      for (int seed = 0; seed < 20; seed++) {
+        final List<Game> games =
+            StreamEx.iterate(
+                    new Game(new RandomPlayer(1, seed), new RandomPlayer(2, seed + 100), animated),
+                    game -> !(game instanceof FinishedGame),
+                    Game::progress)
+                .toList();
+        final Game lastGame = games.get(games.size() - 1);
+        final FinishedGame finishedGame = (FinishedGame) lastGame.progress();
+
+        final GameRecorder recorder = new GameRecorder(games.get(0));
+        games.stream().skip(1).forEach(recorder::observe);
+        recorder.observe(finishedGame);
+        journal.append(recorder.toRecord());
+
+        final List<PackedBoard> gamePositions =
+            StreamEx.of(games)
+                .filter(game -> game.getState() instanceof AwaitingPlayerChoice)
+                .map(game -> PackedBoard.of(game.getBoard(), game.getState().getCurrentPlayer()))
+                .toMutableList();
+        gamePositions.add(
+            PackedBoard.of(finishedGame.getBoard(), finishedGame.getState().getCurrentPlayer()));
+        positions.add(gamePositions);
+      }
+    }
+
+    try (final GameJournalReader reader = GameJournalReader.open(path)) {
+      for (final List<PackedBoard> gamePositions : positions) {
+        final GameRecord record = reader.next();
+        assertThat(record.isFinished()).isTrue();
+        assertThat(record.isStandardStart()).isTrue();
+        assertThat(record.getPlies()).isEqualTo(gamePositions.size() - 1);
+        for (int ply = 0; ply < record.getPlies(); ply++) {
+          assertThat(record.getPositionAt(ply)).isEqualTo(gamePositions.get(ply));
+        }
+        assertThat(record.getFinalPosition().isGameOver()).isTrue();
+        assertThat(record.getFinalPosition().toBoard())
+            .isEqualTo(gamePositions.get(record.getPlies()).toBoard());
+      }
+      assertThat(reader.hasNext()).isFalse();
+      assertThat(reader.getValidLength()).isEqualTo(Files.size(path));
+    }
+
+    assertThat(Files.size(path) / positions.size()).isLessThan(40);
+  }
+
+  @Test
+  void shouldKeepCustomStartsAndGamesInFlight() throws IOException {
+    final Path path = directory.resolve("games.journal");
+    final int[] wells = {0, 0, 3, 0, 1, 0, 20, 2, 0, 0, 0, 0, 1, 21};
+    final GameRecord record = new GameRecord(wells, 2, new byte[] {5, 0}, false);
+
+    try (final GameJournal journal = GameJournal.open(path, Duration.ZERO)) {
+      journal.append(record);
+    }
+
+    try (final GameJournalReader reader = GameJournalReader.open(path)) {
+      final GameRecord read = reader.next();
+      assertThat(read).isEqualTo(record);
+      assertThat(read.isStandardStart()).isFalse();
+      assertThat(read.getPositionAt(0)).isEqualTo(new PackedBoard(wells, 2));
+      assertThat(read.getFinalPosition().getCurrentPlayerNumber()).isEqualTo(1);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void shouldRecordFinalMoveUpToTheFinalPosition(final boolean animated) {
+    final Player playerOne =
+        new Player(1) {
+          @Override
+          public Move makeMove(final Game game) throws Move.IllegalMoveException {
+            return new Move(game.getBoard(), this, 2);
+          }
+        };
+    final Board board =
+        new PackedBoard(new int[] {0, 2, 1, 0, 0, 0, 20, 0, 0, 3, 0, 0, 0, 22}, 1).toBoard();
+    final Game game =
+        new Game(playerOne, new Player(2), board, new AwaitingPlayerChoice(playerOne, animated));
+
+    final GameRecorder recorder = new GameRecorder(game);
+    Game finishedGame = game;
+    while (!(finishedGame instanceof FinishedGame)) {
+      finishedGame = finishedGame.progress();
+      recorder.observe(finishedGame);
+    }
+    final GameRecord record = recorder.toRecord();
+
+    assertThat(record.isFinished()).isTrue();
+    assertThat(record.getPlies()).isOne();
+    assertThat(record.getMove(0)).isEqualTo(animated ? 2 : 1);
+    assertThat(record.getFinalPosition().toBoard()).isEqualTo(finishedGame.getBoard());
+  }
+
+  @Test
+  void shouldDropTornRecordWhenReopened() throws IOException {
+    final Path path = directory.resolve("games.journal");
+    final GameRecord record =
+        new GameRecord(
+            PackedBoard.createStartingBoard().toBoard().getWells().stream()
+                .mapToInt(Well::getNumberOfBeads)
+                .toArray(),
+            1,
+            new byte[] {2, 5, 0, 3},
+            false);
+
+    try (final GameJournal journal = GameJournal.open(path)) {
+      for (int i = 0; i < 3; i++) {
+        journal.append(record);
+      }
+    }
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 2);
+    }
+
+    try (final GameJournalReader reader = GameJournalReader.open(path)) {
+      assertThat(StreamEx.of(reader).count()).isEqualTo(2);
+      assertThat(reader.getValidLength()).isLessThan(Files.size(path));
+    }
+
+    try (final GameJournal journal = GameJournal.open(path)) {
+      journal.append(record);
+    }
+    try (final GameJournalReader reader = GameJournalReader.open(path)) {
+      assertThat(StreamEx.of(reader).toList()).containsExactly(record, record, record);
+    }
+  }
+
+  @Test
+  void shouldRefuseJournalDamagedBeforeItsEnd() throws IOException {
+    final Path path = directory.resolve("games.journal");
+    final GameRecord record =
+        new GameRecord(
+            PackedBoard.createStartingBoard().toBoard().getWells().stream()
+                .mapToInt(Well::getNumberOfBeads)
+                .toArray(),
+            1,
+            new byte[] {2, 5, 0, 3},
+            false);
+
+    try (final GameJournal journal = GameJournal.open(path)) {
+      for (int i = 0; i < 3; i++) {
+        journal.append(record);
+      }
+    }
+    final long size = Files.size(path);
+    final long secondRecordStart;
+    final long secondRecordEnd;
+    try (final GameJournalReader reader = GameJournalReader.open(path)) {
+      reader.next();
+      secondRecordStart = reader.getValidLength();
+      reader.next();
+      secondRecordEnd = reader.getValidLength();
+    }
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.write(
+          ByteBuffer.wrap(new byte[] {(byte) 0xFF}), (secondRecordStart + secondRecordEnd) / 2);
+    }
+
+    try (final GameJournalReader reader = GameJournalReader.open(path)) {
+      assertThat(reader.next()).isEqualTo(record);
+      assertThatThrownBy(reader::hasNext)
+          .isInstanceOf(UncheckedIOException.class)
+          .hasCauseInstanceOf(IOException.class);
+    }
+    assertThatThrownBy(() -> GameJournal.open(path)).isInstanceOf(IOException.class);
+    assertThat(Files.size(path)).isEqualTo(size);
+  }
+
+  @Test
+  void shouldRejectIllegalRecordedMoves() {
+    final GameRecord record =
+        new GameRecord(
+            new int[] {0, 4, 4, 4, 4, 4, 0, 4, 4, 4, 4, 4, 4, 0}, 1, new byte[] {0}, false);
+
+    assertThatThrownBy(record::getFinalPosition).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldRejectOtherFiles() throws IOException {
+    final Path path = directory.resolve("other.journal");
+    Files.write(path, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+    assertThatThrownBy(() -> GameJournalReader.open(path)).isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> GameJournal.open(path)).isInstanceOf(IOException.class);
+  }
+}
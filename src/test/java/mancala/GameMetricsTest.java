@@ -0,0 +1,79 @@
+package mancala;
+
+import static io.vavr.Predicates.not;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mancala.Game.FinishedGame;
+import mancala.State.AwaitingPlayerChoice;
+import mancala.State.MakingMove;
+import one.util.streamex.StreamEx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class GameMetricsTest {
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @AfterEach
+  void removeRegistry() {
+    Metrics.globalRegistry.remove(registry);
+  }
+
+  @Test
+  void shouldTimeTransitionsAndMoves() {
+    Metrics.globalRegistry.add(registry);
+    final long transitionsBefore = GameMetrics.getTransitions();
+
+    final long transitions =
+        StreamEx.iterate(
+                new Game(new RandomPlayer(1, 4), new BetterPlayer(2), true), Game::progress)
+            .takeWhile(not(FinishedGame.class::isInstance))
+            .count();
+
+    assertThat(GameMetrics.getTransitions() - transitionsBefore).isEqualTo(transitions);
+    assertThat(registry.get("mancala.game.transitions").functionCounter().count())
+        .isEqualTo(GameMetrics.getTransitions());
+    assertThat(registry.get("mancala.game.progress").timer().count()).isEqualTo(transitions);
+    assertThat(
+            registry
+                    .get("mancala.state.progress")
+                    .tag("state", AwaitingPlayerChoice.class.getSimpleName())
+                    .timer()
+                    .count()
+                + registry
+                    .get("mancala.state.progress")
+                    .tag("state", MakingMove.class.getSimpleName())
+                    .timer()
+                    .count())
+        .isLessThan(transitions);
+    assertThat(registry.get("mancala.player.move").tag("player", "RandomPlayer").timer().count())
+        .isPositive();
+    assertThat(registry.get("mancala.player.move").tag("player", "BetterPlayer").timer().count())
+        .isPositive();
+  }
+
+  @Test
+  void shouldCountIllegalMoveRetries() {
+    Metrics.globalRegistry.add(registry);
+    final Player stubborn =
+        new RandomPlayer(1, 4) {
+          private int attempts;
+
+          @Override
+          public Move makeMove(final Game game) throws Move.IllegalMoveException {
+            if (attempts++ < 2) {
+              throw new Move.IllegalMoveException(7);
+            }
+            return super.makeMove(game);
+          }
+
+          @Override
+          public void inform(final Exception exception) {}
+        };
+
+    new Game(stubborn, new BetterPlayer(2)).progress();
+
+    assertThat(registry.get("mancala.player.illegal.moves").counter().count()).isEqualTo(2);
+  }
+}
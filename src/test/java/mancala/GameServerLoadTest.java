@@ -0,0 +1,107 @@
+package mancala;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import mancala.server.GameServer;
+
+/**
+ * Plays games against a running {@link GameServer} from many concurrent clients, each always
+ * choosing its lowest non-empty well, and reports moves and games per second. Run by hand, not by
+ * the build, since it needs a server up.
+ */
+public class GameServerLoadTest {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final HttpClient client = HttpClient.newHttpClient();
+  private final URI games;
+  private final LongAdder moves = new LongAdder();
+  private final LongAdder finishedGames = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+
+  private GameServerLoadTest(final URI server) {
+    this.games = server.resolve("/games");
+  }
+
+  private void playUntil(final long deadline) {
+    while (System.nanoTime() - deadline < 0) {
+      try {
+        JsonNode game =
+            send(
+                HttpRequest.newBuilder(games.resolve("/games?opponent=pirate"))
+                    .POST(BodyPublishers.noBody())
+                    .build());
+        final URI movesUri = games.resolve("/games/" + game.get("id").asText() + "/moves");
+        while (!game.get("finished").asBoolean() && System.nanoTime() - deadline < 0) {
+          int well = 0;
+          while (game.get("wells").get(well).asInt() == 0) {
+            well++;
+          }
+          game =
+              send(
+                  HttpRequest.newBuilder(movesUri)
+                      .header("Content-Type", "application/json")
+                      .POST(
+                          BodyPublishers.ofString(
+                              String.format("{\"player\":1,\"well\":%d}", well)))
+                      .build());
+          moves.increment();
+        }
+        if (game.get("finished").asBoolean()) {
+          finishedGames.increment();
+        }
+      } catch (final IOException exception) {
+        errors.increment();
+      } catch (final InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private JsonNode send(final HttpRequest request) throws IOException, InterruptedException {
+    final HttpResponse<String> response = client.send(request, BodyHandlers.ofString());
+    if (response.statusCode() >= 300) {
+      throw new IOException(response.body());
+    }
+    return MAPPER.readTree(response.body());
+  }
+
+  public static void main(final String[] args) throws InterruptedException {
+    final URI server = URI.create(args.length > 0 ? args[0] : "http://localhost:8080");
+    final int clients = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+    final Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+    final GameServerLoadTest loadTest = new GameServerLoadTest(server);
+    final ExecutorService executor = Executors.newFixedThreadPool(clients);
+    final long start = System.nanoTime();
+    final long deadline = start + duration.toNanos();
+    for (int i = 0; i < clients; i++) {
+      executor.execute(() -> loadTest.playUntil(deadline));
+    }
+    executor.shutdown();
+    executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+
+    final double seconds = (System.nanoTime() - start) / 1e9;
+    System.out.printf(
+        "%d clients | %.1f s | %d moves | %.0f moves/s | %d games | %.1f games/s | %d errors%n",
+        clients,
+        seconds,
+        loadTest.moves.sum(),
+        loadTest.moves.sum() / seconds,
+        loadTest.finishedGames.sum(),
+        loadTest.finishedGames.sum() / seconds,
+        loadTest.errors.sum());
+  }
+}
@@ -0,0 +1,153 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import mancala.Move.IllegalMoveException;
+import mancala.player.PiratePlayer;
+import mancala.server.GameController;
+import mancala.server.GameSession;
+import mancala.server.GameSessionStore;
+import mancala.server.GameView;
+import mancala.server.RemotePlayer;
+import one.util.streamex.IntStreamEx;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class GameServerTest {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final GameSessionStore store = new GameSessionStore(16, Duration.ofMinutes(10));
+  private final MockMvc mvc =
+      MockMvcBuilders.standaloneSetup(new GameController(store, Runnable::run, 64)).build();
+
+  @Test
+  void shouldPlayWholeGameOverHttp() throws Exception {
+    JsonNode game = read(mvc.perform(post("/games")).andExpect(status().isCreated()));
+    final String id = game.get("id").asText();
+
+    while (!game.get("finished").asBoolean()) {
+      int well = 0;
+      while (game.get("wells").get(well).asInt() == 0) {
+        well++;
+      }
+      game = read(move(id, 1, well).andExpect(status().isOk()));
+    }
+
+    final JsonNode wells = game.get("wells");
+    assertThat(IntStreamEx.range(14).map(i -> wells.get(i).asInt()).sum()).isEqualTo(48);
+    mvc.perform(get("/games/{id}", id))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.finished").value(true))
+        .andExpect(jsonPath("$.currentPlayer").value(0));
+    move(id, 1, 0).andExpect(status().isConflict());
+  }
+
+  @Test
+  void shouldRejectMovesOutOfTurnOrIllegal() throws Exception {
+    final String id =
+        read(mvc.perform(post("/games").param("opponent", "remote"))).get("id").asText();
+
+    move(id, 2, 0).andExpect(status().isConflict());
+    move(id, 1, 6).andExpect(status().isBadRequest());
+    move(id, 1, 2)
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.currentPlayer").value(1))
+        .andExpect(jsonPath("$.wells[6]").value(1));
+    move(id, 1, 2).andExpect(status().isBadRequest());
+    move(id, 1, 0).andExpect(status().isOk()).andExpect(jsonPath("$.currentPlayer").value(2));
+  }
+
+  @Test
+  void shouldDeleteAndReportUnknownGames() throws Exception {
+    final String id = read(mvc.perform(post("/games"))).get("id").asText();
+
+    mvc.perform(delete("/games/{id}", id)).andExpect(status().isNoContent());
+    mvc.perform(get("/games/{id}", id)).andExpect(status().isNotFound());
+    move(id, 1, 0).andExpect(status().isNotFound());
+    mvc.perform(post("/games").param("opponent", "nobody")).andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void shouldStreamEventsToSpectators() throws Exception {
+    final String id =
+        read(mvc.perform(post("/games").param("opponent", "remote").param("animated", "true")))
+            .get("id")
+            .asText();
+    final MvcResult spectator =
+        mvc.perform(get("/games/{id}/events", id)).andExpect(request().asyncStarted()).andReturn();
+
+    move(id, 1, 0).andExpect(status().isOk());
+
+    assertThat(spectator.getResponse().getContentAsString())
+        .contains("event:AwaitingPlayerChoice", "event:MakingMove")
+        .contains("\"playerNumber\":2");
+  }
+
+  @Test
+  void shouldEvictIdleSessions() {
+    final GameSessionStore idleStore = new GameSessionStore(4, Duration.ZERO);
+    final GameSession session =
+        idleStore.create(
+            id -> new GameSession(id, new Game(new RemotePlayer(1), new PiratePlayer(2))));
+
+    assertThat(idleStore.size()).isEqualTo(1);
+    assertThat(idleStore.evictIdleSessions()).isEqualTo(1);
+    assertThat(idleStore.get(session.getId())).isEmpty();
+  }
+
+  @Test
+  void shouldPlayManyGamesConcurrently() {
+    final List<GameView> finishedGames =
+        IntStreamEx.range(200)
+            .parallel()
+            .mapToObj(
+                i -> {
+                  final GameSession session =
+                      store.create(
+                          id ->
+                              new GameSession(
+                                  id, new Game(new RemotePlayer(1), new PiratePlayer(2))));
+                  GameView game = session.start();
+                  while (!game.isFinished()) {
+                    final int[] wells = game.getWells();
+                    final int well = IntStreamEx.range(6).findFirst(w -> wells[w] > 0).getAsInt();
+                    try {
+                      game = session.move(1, well);
+                    } catch (final IllegalMoveException exception) {
+                      throw new AssertionError(exception);
+                    }
+                  }
+                  return game;
+                })
+            .toList();
+
+    assertThat(store.size()).isEqualTo(200);
+    assertThat(finishedGames)
+        .allSatisfy(game -> assertThat(IntStreamEx.of(game.getWells()).sum()).isEqualTo(48));
+  }
+
+  private ResultActions move(final String id, final int player, final int well) throws Exception {
+    return mvc.perform(
+        post("/games/{id}/moves", id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(String.format("{\"player\":%d,\"well\":%d}", player, well)));
+  }
+
+  private static JsonNode read(final ResultActions result) throws Exception {
+    return MAPPER.readTree(result.andReturn().getResponse().getContentAsString());
+  }
+}
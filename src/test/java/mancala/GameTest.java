@@ -4,11 +4,15 @@ import static io.vavr.Predicates.not;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.IntFunction;
 import java.util.stream.Stream;
 import mancala.Game.FinishedGame;
+import mancala.player.MonteCarloPlayer;
+import mancala.player.SearchPlayer;
+import mancala.player.TranspositionSearchPlayer;
 import one.util.streamex.StreamEx;
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -16,6 +20,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 class GameTest {
+  private static final Duration UNLIMITED = Duration.ofDays(1);
+
   @MethodSource
   @ParameterizedTest(name = "[{index}] {0}")
   void shouldWorkAsExpected(
@@ -89,7 +95,34 @@ class GameTest {
             "Pirate v Pirate | Player 1 Wins",
             playerFactory(PiratePlayer::new),
             playerFactory(PiratePlayer::new),
-            finishedGameAssertions(game -> assertThat(game).satisfies(playerWon(1)))));
+            finishedGameAssertions(game -> assertThat(game).satisfies(playerWon(1)))),
+        arguments(
+            "Search v Pirate | Player 1 Wins",
+            playerFactory(playerNumber -> new SearchPlayer(playerNumber, UNLIMITED, 12)),
+            playerFactory(PiratePlayer::new),
+            finishedGameAssertions(game -> assertThat(game).satisfies(playerWon(1)))),
+        arguments(
+            "Pirate v Search | Player 2 Wins",
+            playerFactory(PiratePlayer::new),
+            playerFactory(playerNumber -> new SearchPlayer(playerNumber, UNLIMITED, 12)),
+            finishedGameAssertions(game -> assertThat(game).satisfies(playerWon(2)))),
+        arguments(
+            "Transposition Search v Search | Player 1 Wins",
+            playerFactory(playerNumber -> new TranspositionSearchPlayer(playerNumber, 14)),
+            playerFactory(playerNumber -> new SearchPlayer(playerNumber, UNLIMITED, 8)),
+            finishedGameAssertions(game -> assertThat(game).satisfies(playerWon(1)))),
+        arguments(
+            "Monte Carlo v Pirate | Player 1 Wins",
+            playerFactory(
+                playerNumber -> new MonteCarloPlayer(playerNumber, 1, UNLIMITED, 20_000, 1)),
+            playerFactory(PiratePlayer::new),
+            finishedGameAssertions(game -> assertThat(game).satisfies(playerWon(1)))),
+        arguments(
+            "Pirate v Monte Carlo | Player 2 Wins",
+            playerFactory(PiratePlayer::new),
+            playerFactory(
+                playerNumber -> new MonteCarloPlayer(playerNumber, 1, UNLIMITED, 20_000, 1)),
+            finishedGameAssertions(game -> assertThat(game).satisfies(playerWon(2)))));
   }
 
   private static Consumer<FinishedGame> finishedGameAssertions(final Consumer<FinishedGame> value) {
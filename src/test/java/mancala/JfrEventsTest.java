@@ -0,0 +1,78 @@
+package mancala;
+
+import static io.vavr.Predicates.not;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import mancala.Game.FinishedGame;
+import mancala.jfr.BoardMutationEvent;
+import one.util.streamex.StreamEx;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JfrEventsTest {
+  @Test
+  void shouldRecordWithBundledSettings(@TempDir final Path directory) throws Exception {
+    final Path file = directory.resolve("mancala.jfr");
+    final Configuration configuration =
+        Configuration.create(Path.of("src/main/resources/mancala.jfc"));
+    assertThat(configuration.getSettings())
+        .containsEntry("jdk.ObjectAllocationInNewTLAB#enabled", "false");
+
+    final long transitions;
+    try (final Recording recording = new Recording(configuration)) {
+      recording.start();
+      transitions =
+          StreamEx.iterate(
+                  new Game(new RandomPlayer(1, 4), new BetterPlayer(2), true), Game::progress)
+              .takeWhile(not(FinishedGame.class::isInstance))
+              .count();
+      recording.stop();
+      recording.dump(file);
+    }
+
+    final Map<String, List<RecordedEvent>> events =
+        RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().startsWith("mancala."))
+            .collect(Collectors.groupingBy(event -> event.getEventType().getName()));
+
+    assertThat(events.get("mancala.StateTransition")).hasSize((int) transitions);
+    assertThat(events.get("mancala.StateTransition"))
+        .allSatisfy(event -> assertThat(event.getInt("beadsInPlay")).isBetween(0, 48));
+    assertThat(events.get("mancala.PlayerDecision"))
+        .extracting(event -> event.getString("player"))
+        .contains("RandomPlayer", "BetterPlayer");
+    assertThat(events.get("mancala.PlayerDecision"))
+        .allSatisfy(event -> assertThat(event.getInt("wellIndex")).isBetween(0, 5));
+    assertThat(events.get("mancala.BoardMutation"))
+        .extracting(event -> event.getString("operation"))
+        .contains(BoardMutationEvent.MOVE_BEAD, BoardMutationEvent.CLAIM);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"default", "profile"})
+  void shouldNotRecordWithJdkSettings(final String settings, @TempDir final Path directory)
+      throws Exception {
+    final Path file = directory.resolve(settings + ".jfr");
+    try (final Recording recording = new Recording(Configuration.getConfiguration(settings))) {
+      recording.start();
+      new Game(new RandomPlayer(1, 4), new BetterPlayer(2)).playAsync().join();
+      recording.stop();
+      recording.dump(file);
+    }
+
+    assertThat(Files.exists(file)).isTrue();
+    assertThat(RecordingFile.readAllEvents(file))
+        .noneMatch(event -> event.getEventType().getName().startsWith("mancala."));
+  }
+}
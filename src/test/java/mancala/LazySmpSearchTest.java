@@ -0,0 +1,71 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import mancala.search.AlphaBetaSearch;
+import mancala.search.Evaluation;
+import mancala.search.LazySmpSearch;
+import mancala.search.SearchResult;
+import mancala.search.TranspositionTable;
+import mancala.solver.Solver;
+import mancala.tablebase.TablebaseIndex;
+import one.util.streamex.IntStreamEx;
+import org.junit.jupiter.api.Test;
+
+class LazySmpSearchTest {
+  private static final Duration UNLIMITED = Duration.ofDays(1);
+
+  @Test
+  void shouldScoreLikeSingleThreadedSearch() {
+    final SplittableRandom random = new SplittableRandom(5);
+
+    try (final LazySmpSearch parallel =
+        new LazySmpSearch(4, Evaluation.STORE_DIFFERENCE, new TranspositionTable(16))) {
+      for (int i = 0; i < 10; i++) {
+        final PackedBoard board =
+            i == 0 ? Solver.createStartingBoard(2) : PackedBoard.createStartingBoard();
+        while (!board.isGameOver() && TablebaseIndex.beadsInPlayerWells(board) > 20) {
+          int move;
+          do {
+            move = random.nextInt(6);
+          } while (!board.isLegalMove(move));
+          board.applyMove(move);
+        }
+        if (board.isGameOver()) {
+          continue;
+        }
+        final SearchResult single =
+            new AlphaBetaSearch(Evaluation.STORE_DIFFERENCE, new TranspositionTable(16))
+                .search(board, UNLIMITED, AlphaBetaSearch.MAX_DEPTH);
+        parallel.getTable().clear();
+        final SearchResult result = parallel.search(board, UNLIMITED, AlphaBetaSearch.MAX_DEPTH);
+
+        assertThat(single.getDepth()).isLessThan(AlphaBetaSearch.MAX_DEPTH);
+        assertThat(result.getScore()).isEqualTo(single.getScore());
+      }
+    }
+  }
+
+  @Test
+  void shouldGiveEveryHelperItsOwnMoveOrder() {
+    final int[][] offsets =
+        IntStreamEx.range(64)
+            .mapToObj(
+                helper ->
+                    IntStreamEx.range(AlphaBetaSearch.MAX_DEPTH)
+                        .map(ply -> AlphaBetaSearch.moveOffsetOf(helper, ply))
+                        .toArray())
+            .toArray(int[][]::new);
+
+    assertThat(offsets[0]).containsOnly(0);
+    for (int helper = 1; helper < offsets.length; helper++) {
+      assertThat(offsets[helper]).containsAnyOf(1, 2, 3, 4, 5);
+      for (int other = 0; other < helper; other++) {
+        assertThat(Arrays.equals(offsets[helper], offsets[other])).isFalse();
+      }
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import mancala.search.MonteCarloResult;
+import mancala.search.MonteCarloTreeSearch;
+import org.junit.jupiter.api.Test;
+
+class MonteCarloTreeSearchTest {
+  @Test
+  void shouldSplitPlayoutsAcrossThreads() {
+    try (final MonteCarloTreeSearch search = new MonteCarloTreeSearch(3, 42)) {
+      final MonteCarloResult result =
+          search.search(PackedBoard.createStartingBoard(), Duration.ofSeconds(30), 10_000);
+
+      assertThat(result.getPlayouts()).isEqualTo(10_000);
+      assertThat(result.getTreeSize()).isBetween(3L, 10_003L);
+      assertThat(PackedBoard.createStartingBoard().isLegalMove(result.getPlayerWellIndex()))
+          .isTrue();
+    }
+  }
+
+  @Test
+  void shouldReuseTreeForFollowingPosition() {
+    try (final MonteCarloTreeSearch search = new MonteCarloTreeSearch(1, 42)) {
+      final PackedBoard board = PackedBoard.createStartingBoard();
+      final MonteCarloResult first = search.search(board, Duration.ofSeconds(30), 20_000);
+
+      board.applyMove(first.getPlayerWellIndex());
+      while (board.getCurrentPlayerNumber() == 1) {
+        board.applyMove(Integer.numberOfTrailingZeros(board.getLegalMoves()));
+      }
+      board.applyMove(Integer.numberOfTrailingZeros(board.getLegalMoves()));
+      final MonteCarloResult second = search.search(board, Duration.ofSeconds(30), 100);
+
+      assertThat(second.getTreeSize()).isGreaterThan(second.getPlayouts() + 1);
+    }
+  }
+
+  @Test
+  void shouldSplitMemoryBudgetAcrossThreads() {
+    try (final MonteCarloTreeSearch search = new MonteCarloTreeSearch(4, 42, 1)) {
+      final MonteCarloResult result =
+          search.search(PackedBoard.createStartingBoard(), Duration.ofSeconds(30), 40_000);
+
+      assertThat(search.getMaxTreeSize() * search.getThreads() * 80).isLessThanOrEqualTo(1 << 20);
+      assertThat(result.getTreeSize()).isEqualTo(search.getMaxTreeSize() * search.getThreads());
+      assertThat(result.getPlayouts()).isEqualTo(40_000);
+    }
+  }
+}
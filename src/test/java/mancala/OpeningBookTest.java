@@ -0,0 +1,41 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.SortedMap;
+import mancala.book.OpeningBook;
+import mancala.book.OpeningBookBuilder;
+import mancala.search.AlphaBetaSearch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OpeningBookTest {
+  @Test
+  void shouldFindEveryBookPosition(@TempDir final Path directory) throws IOException {
+    final Path path = directory.resolve("book.bin");
+    final SortedMap<Long, Integer> entries = OpeningBookBuilder.build(3, 6);
+    OpeningBookBuilder.write(path, entries);
+
+    try (final OpeningBook book = OpeningBook.open(path)) {
+      assertThat(book.getSize()).isEqualTo(entries.size());
+
+      final PackedBoard startingBoard = PackedBoard.createStartingBoard();
+      assertThat(book.getMove(startingBoard))
+          .hasValue(
+              new AlphaBetaSearch()
+                  .search(startingBoard, Duration.ofDays(1), 6)
+                  .getPlayerWellIndex());
+
+      final PackedBoard board = startingBoard.copy();
+      board.applyMove(2);
+      assertThat(book.getMove(board)).isPresent();
+
+      final PackedBoard endgame =
+          new PackedBoard(new int[] {1, 0, 0, 0, 0, 0, 20, 1, 0, 0, 0, 0, 0, 26}, 1);
+      assertThat(book.getMove(endgame)).isEmpty();
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import mancala.Game.FinishedGame;
+import mancala.State.AwaitingPlayerChoice;
+import mancala.State.MakingMove;
+import one.util.streamex.LongStreamEx;
+import one.util.streamex.StreamEx;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class PackedBoardTest {
+  @Test
+  void shouldConvertToAndFromBoard() {
+    final PackedBoard packedBoard = PackedBoard.createStartingBoard();
+
+    assertThat(packedBoard.toBoard()).isEqualTo(Board.createStartingBoard());
+    assertThat(packedBoard.getCurrentPlayerNumber()).isEqualTo(1);
+    assertThat(PackedBoard.of(packedBoard.toBoard(), new Player(2)).getCurrentPlayerNumber())
+        .isEqualTo(2);
+  }
+
+  @MethodSource
+  @ParameterizedTest(name = "[{index}] {0}")
+  void shouldReachSameOutcomesAsStateMachine(
+      final String description,
+      final IntFunction<Player> playerOneFactory,
+      final IntFunction<Player> playerTwoFactory) {
+    Game game = new Game(playerOneFactory.apply(1), playerTwoFactory.apply(2), true);
+    final PackedBoard packedBoard = PackedBoard.of(game.getBoard(), game.getPlayers()[0]);
+
+    while (!(game instanceof FinishedGame)) {
+      final Game nextGame = game.progress();
+
+      if (game.getState() instanceof AwaitingPlayerChoice) {
+        assertThat(packedBoard.isGameOver()).isFalse();
+        packedBoard.applyMove(((MakingMove) nextGame.getState()).getMove().getWellIndex());
+      }
+      if (nextGame.getState() instanceof AwaitingPlayerChoice) {
+        assertThat(packedBoard.toBoard()).isEqualTo(nextGame.getBoard());
+        assertThat(packedBoard.getCurrentPlayerNumber())
+            .isEqualTo(nextGame.getState().getCurrentPlayer().getPlayerNumber());
+        assertThat(packedBoard.getHash()).isEqualTo(Zobrist.hash(packedBoard));
+        assertThat(packedBoard.getCanonicalHash())
+            .isEqualTo(Zobrist.hash(Symmetry.canonical(packedBoard)));
+        assertSameSideTotals(packedBoard, nextGame.getBoard());
+      }
+
+      game = nextGame;
+    }
+
+    final FinishedGame finishedGame = (FinishedGame) game;
+    assertThat(packedBoard.isGameOver()).isTrue();
+    assertThat(packedBoard.toBoard()).isEqualTo(finishedGame.getBoard());
+    assertThat(packedBoard.getHash()).isEqualTo(Zobrist.hash(packedBoard));
+    assertThat(packedBoard.getWinningPlayerNumber())
+        .isEqualTo(finishedGame.getWinningPlayer().map(Player::getPlayerNumber).orElse(0));
+  }
+
+  private static void assertSameSideTotals(final PackedBoard packedBoard, final Board board) {
+    final PackedBoard recounted = PackedBoard.of(board, new Player(1));
+    for (final Player player : new Player[] {new Player(1), new Player(2)}) {
+      final int playerNumber = player.getPlayerNumber();
+      assertThat(packedBoard.getBeadsInPlayerWells(playerNumber))
+          .isEqualTo(recounted.getBeadsInPlayerWells(playerNumber))
+          .isEqualTo(board.getBeadsInPlayerWells(player))
+          .isEqualTo(
+              StreamEx.of(board.getPlayerWells(player))
+                  .select(Well.PlayerWell.class)
+                  .mapToInt(Well::getNumberOfBeads)
+                  .sum());
+      assertThat(board.allPlayerWellsEmpty(player))
+          .isEqualTo(packedBoard.allPlayerWellsEmpty(playerNumber));
+    }
+    assertThat(packedBoard.getLegalMoves())
+        .isEqualTo(board.getLegalMoves(new Player(packedBoard.getCurrentPlayerNumber())));
+  }
+
+  static Stream<Arguments> shouldReachSameOutcomesAsStateMachine() {
+    return StreamEx.of(
+            arguments(
+                "Bad v Better", playerFactory(BadPlayer::new), playerFactory(BetterPlayer::new)),
+            arguments(
+                "Pirate v Better",
+                playerFactory(PiratePlayer::new),
+                playerFactory(BetterPlayer::new)),
+            arguments(
+                "Pirate v Pirate",
+                playerFactory(PiratePlayer::new),
+                playerFactory(PiratePlayer::new)))
+        .append(
+            LongStreamEx.range(200)
+                .mapToObj(
+                    seed ->
+                        arguments(
+                            String.format("Random v Random | Seed %d", seed),
+                            playerFactory(n -> new RandomPlayer(n, seed)),
+                            playerFactory(n -> new RandomPlayer(n, ~seed)))));
+  }
+
+  private static IntFunction<Player> playerFactory(final IntFunction<Player> value) {
+    return value;
+  }
+}
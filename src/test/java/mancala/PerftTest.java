@@ -0,0 +1,112 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ForkJoinPool;
+import mancala.Game.FinishedGame;
+import mancala.State.AwaitingPlayerChoice;
+import mancala.perft.Perft;
+import mancala.perft.PerftResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PerftTest {
+  @ParameterizedTest(name = "[{index}] Depth {0}")
+  @CsvSource({
+    "0, 1, 0, 0, 0",
+    "1, 6, 0, 1, 0",
+    "2, 35, 0, 6, 0",
+    "3, 185, 7, 27, 0",
+    "4, 942, 28, 156, 0",
+    "5, 4690, 108, 695, 0",
+    "6, 23233, 580, 3488, 0",
+    "7, 114430, 3563, 15503, 0",
+    "8, 563223, 20323, 69239, 0",
+    "9, 2766799, 119431, 321461, 1",
+    "10, 13551151, 667773, 1496243, 33"
+  })
+  void shouldCountStartingBoard(
+      final int depth,
+      final long nodes,
+      final long captures,
+      final long extraTurns,
+      final long gameOvers) {
+    final PerftResult result = Perft.perft(PackedBoard.createStartingBoard(), depth);
+
+    assertThat(result.getNodes()).isEqualTo(nodes);
+    assertThat(result.getCaptures()).isEqualTo(captures);
+    assertThat(result.getExtraTurns()).isEqualTo(extraTurns);
+    assertThat(result.getGameOvers()).isEqualTo(gameOvers);
+  }
+
+  @Test
+  void shouldCountTheSameInParallel() {
+    final PackedBoard board = PackedBoard.createStartingBoard();
+
+    assertThat(Perft.perft(board, 9, ForkJoinPool.commonPool()))
+        .usingRecursiveComparison()
+        .ignoringFields("elapsedNanos")
+        .isEqualTo(Perft.perft(board, 9));
+  }
+
+  @ParameterizedTest(name = "[{index}] Depth {0}")
+  @CsvSource({"1, 6", "2, 35", "3, 185", "4, 942"})
+  void shouldCountTheSameWithStateMachine(final int depth, final long nodes) {
+    final Player playerOne = new Player(1);
+    final Player playerTwo = new Player(2);
+    final Game game =
+        new Game(
+            playerOne,
+            playerTwo,
+            Board.createStartingBoard(),
+            new AwaitingPlayerChoice(playerOne, true));
+
+    assertThat(countWithStateMachine(game, depth)).isEqualTo(nodes);
+  }
+
+  private static long countWithStateMachine(final Game game, final int depth) {
+    if (depth == 0) {
+      return 1;
+    }
+    if (game instanceof FinishedGame) {
+      return 0;
+    }
+
+    final Player currentPlayer = game.getState().getCurrentPlayer();
+    long nodes = 0;
+    for (int wellIndex = 0; wellIndex < 6; wellIndex++) {
+      if (!game.getBoard().getWellFor(currentPlayer, wellIndex).isEmpty()) {
+        final Player scriptedPlayer =
+            new ScriptedPlayer(currentPlayer.getPlayerNumber(), wellIndex);
+        Game next =
+            new Game(
+                    game.getPlayers()[0],
+                    game.getPlayers()[1],
+                    game.getBoard(),
+                    new AwaitingPlayerChoice(scriptedPlayer, true))
+                .progress();
+        while (!(next instanceof FinishedGame)
+            && !(next.getState() instanceof AwaitingPlayerChoice)) {
+          next = next.progress();
+        }
+        nodes += countWithStateMachine(next, depth - 1);
+      }
+    }
+    return nodes;
+  }
+
+  private static class ScriptedPlayer extends Player {
+    private final int wellIndex;
+
+    ScriptedPlayer(final int playerNumber, final int wellIndex) {
+      super(playerNumber);
+      this.wellIndex = wellIndex;
+    }
+
+    @Override
+    public Move makeMove(final Game game) throws Move.IllegalMoveException {
+      return new Move(game.getBoard(), this, wellIndex);
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class PiratePlayerTest {
+  private final mancala.player.PiratePlayer pirate = new mancala.player.PiratePlayer(1);
+
+  @Test
+  void shouldCaptureWhenSowingLapsBackToTheStartingWell() throws Move.IllegalMoveException {
+    final int[] wells = {14, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 1, 0};
+
+    assertThat(moveFor(wells)).isZero();
+    assertThat(new PackedBoard(wells, 1).applyMove(0) & PackedBoard.CAPTURE).isNotZero();
+  }
+
+  @Test
+  void shouldCaptureBeforeTakingAnExtraTurn() throws Move.IllegalMoveException {
+    final int[] wells = {0, 1, 0, 0, 0, 1, 0, 0, 0, 0, 4, 0, 0, 0};
+
+    assertThat(moveFor(wells)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldTakeExtraTurnWhenSowingLapsTheBoard() throws Move.IllegalMoveException {
+    final int[] wells = {0, 0, 0, 0, 1, 15, 0, 0, 0, 0, 0, 0, 1, 0};
+
+    assertThat(moveFor(wells)).isEqualTo(5);
+    assertThat(new PackedBoard(wells, 1).applyMove(5)).isEqualTo(PackedBoard.EXTRA_TURN);
+  }
+
+  @Test
+  void shouldFallBackToTheWellWithFewestBeads() throws Move.IllegalMoveException {
+    final int[] wells = {3, 0, 0, 2, 0, 3, 0, 0, 0, 0, 0, 0, 1, 0};
+
+    assertThat(moveFor(wells)).isEqualTo(3);
+  }
+
+  private int moveFor(final int[] wells) throws Move.IllegalMoveException {
+    final Board board = new PackedBoard(wells, 1).toBoard();
+    final Game game =
+        new Game(pirate, new Player(2), board, new State.AwaitingPlayerChoice(pirate, false));
+
+    return pirate.makeMove(game).getWellIndex();
+  }
+}
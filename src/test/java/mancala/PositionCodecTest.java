@@ -0,0 +1,123 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PositionCodecTest {
+  private static final Comparator<PackedBoard> WELLS_THEN_PLAYER =
+      (a, b) -> {
+        for (int i = 0; i < PackedBoard.SIZE; i++) {
+          if (a.getBeads(i) != b.getBeads(i)) {
+            return Integer.compare(a.getBeads(i), b.getBeads(i));
+          }
+        }
+        return Integer.compare(a.getCurrentPlayerNumber(), b.getCurrentPlayerNumber());
+      };
+
+  @Test
+  void shouldPackStartingBoard() {
+    final PackedBoard board = PackedBoard.createStartingBoard();
+    final long packed = PositionCodec.pack(Board.createStartingBoard(), new Player(1));
+
+    assertThat(packed).isPositive();
+    assertThat(PositionCodec.unpack(packed)).isEqualTo(board);
+    assertThat(PositionCodec.unrank(PositionCodec.rank(board), 48)).isEqualTo(board);
+    assertThat(PositionCodec.rankCount(48)).isEqualTo(13_132_444_545_150L);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 36, 48, PositionCodec.MAX_PACKED_BEADS})
+  void shouldRoundTripAndKeepOrder(final int totalBeads) {
+    final SplittableRandom random = new SplittableRandom(totalBeads);
+    final List<PackedBoard> boards = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      boards.add(randomBoard(random, totalBeads));
+    }
+    boards.sort(WELLS_THEN_PLAYER);
+
+    for (int i = 0; i < boards.size(); i++) {
+      final PackedBoard board = boards.get(i);
+      final long packed = PositionCodec.pack(board);
+      final long rank = PositionCodec.rank(board);
+
+      assertThat(packed).isNotNegative();
+      assertThat(PositionCodec.unpack(packed)).isEqualTo(board);
+      assertThat(rank).isBetween(0L, PositionCodec.rankCount(totalBeads) - 1);
+      assertThat(PositionCodec.unrank(rank, totalBeads)).isEqualTo(board);
+      if (i > 0) {
+        final int order = Integer.signum(WELLS_THEN_PLAYER.compare(boards.get(i - 1), board));
+        assertThat(Integer.signum(Long.compare(PositionCodec.pack(boards.get(i - 1)), packed)))
+            .isEqualTo(order);
+        assertThat(Integer.signum(Long.compare(PositionCodec.rank(boards.get(i - 1)), rank)))
+            .isEqualTo(order);
+      }
+    }
+  }
+
+  @Test
+  void shouldRankDensely() {
+    final int totalBeads = 3;
+    final Set<PackedBoard> boards = new HashSet<>();
+    for (long rank = 0; rank < PositionCodec.rankCount(totalBeads); rank++) {
+      final PackedBoard board = PositionCodec.unrank(rank, totalBeads);
+      assertThat(PositionCodec.rank(board)).isEqualTo(rank);
+      boards.add(board);
+    }
+    assertThat(boards).hasSize((int) PositionCodec.rankCount(totalBeads));
+  }
+
+  @Test
+  void shouldRankCompositionsInOrder() {
+    final int total = 5;
+    final int[] previous = new int[4];
+    for (long rank = 0; rank < Compositions.count(total, 4); rank++) {
+      final int[] parts = new int[4];
+      Compositions.unrank(rank, total, parts);
+
+      assertThat(Arrays.stream(parts).sum()).isEqualTo(total);
+      assertThat(Compositions.rank(parts, total)).isEqualTo(rank);
+      if (rank > 0) {
+        assertThat(Arrays.compare(previous, parts)).isNegative();
+      }
+      System.arraycopy(parts, 0, previous, 0, parts.length);
+    }
+    assertThat(Compositions.count(total, 4)).isEqualTo(56);
+  }
+
+  @Test
+  void shouldRankEveryPackedBoardSize() {
+    final PackedBoard board =
+        new PackedBoard(new int[] {127, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}, 2);
+
+    assertThat(PositionCodec.rank(board)).isEqualTo(PositionCodec.rankCount(127) - 1);
+  }
+
+  @Test
+  void shouldRejectTooManyBeadsToPack() {
+    final PackedBoard board =
+        new PackedBoard(new int[] {5, 5, 5, 5, 5, 5, 0, 5, 5, 5, 5, 5, 5, 0}, 1);
+
+    assertThatThrownBy(() -> PositionCodec.pack(board))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static PackedBoard randomBoard(final SplittableRandom random, final int totalBeads) {
+    final int[] wells = new int[PackedBoard.SIZE];
+    final int spread = 1 + random.nextInt(PackedBoard.SIZE);
+    for (int bead = 0; bead < totalBeads; bead++) {
+      wells[random.nextInt(spread)]++;
+    }
+    return new PackedBoard(wells, 1 + random.nextInt(2));
+  }
+}
@@ -0,0 +1,36 @@
+package mancala;
+
+import static io.vavr.Predicates.not;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.List;
+import java.util.Random;
+import mancala.Move.IllegalMoveException;
+import mancala.Well.PlayerWell;
+import one.util.streamex.EntryStream;
+
+public class RandomPlayer extends Player {
+  private final Random random;
+
+  public RandomPlayer(final int playerNumber, final long seed) {
+    super(playerNumber);
+    this.random = new Random(seed);
+  }
+
+  @Override
+  public Move makeMove(final Game game) throws IllegalMoveException {
+    final List<Integer> choices =
+        EntryStream.of(game.getBoard().getPlayerWells(this))
+            .selectValues(PlayerWell.class)
+            .filterValues(not(PlayerWell::isEmpty))
+            .keys()
+            .toList();
+
+    return new Move(game.getBoard(), this, choices.get(random.nextInt(choices.size())));
+  }
+
+  @Override
+  public void inform(final Exception exception) {
+    fail("Should not have happened: %s", exception.getMessage());
+  }
+}
@@ -0,0 +1,51 @@
+package mancala;
+
+import static io.vavr.Predicates.not;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import mancala.Game.FinishedGame;
+import mancala.Move.IllegalMoveException;
+import mancala.Rules.MoveResult;
+import one.util.streamex.StreamEx;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RulesTest {
+  @Test
+  void shouldReportExtraTurn() throws IllegalMoveException {
+    final MoveResult result = Rules.applyMove(Board.createStartingBoard(), new Player(1), 2);
+
+    assertThat(result.isExtraTurn()).isTrue();
+    assertThat(result.isCapture()).isFalse();
+    assertThat(result.isGameOver()).isFalse();
+    assertThat(result.getBoard().getWells().get(6).getNumberOfBeads()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectWellOutsideOfPlayerSide() {
+    assertThatThrownBy(() -> Rules.applyMove(Board.createStartingBoard(), new Player(1), 6))
+        .isInstanceOf(IllegalMoveException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {1, 2, 3, 5, 8, 13, 21, 34, 55, 89})
+  void shouldFinishLikeAnimatedGame(final long seed) {
+    final FinishedGame animated =
+        play(new Game(new RandomPlayer(1, seed), new RandomPlayer(2, ~seed), true));
+    final FinishedGame wholeMoves =
+        play(new Game(new RandomPlayer(1, seed), new RandomPlayer(2, ~seed), false));
+
+    assertThat(wholeMoves.getBoard()).isEqualTo(animated.getBoard());
+    assertThat(wholeMoves.getWinningPlayer()).isEqualTo(animated.getWinningPlayer());
+  }
+
+  private static FinishedGame play(final Game game) {
+    return StreamEx.iterate(game, Game::progress)
+        .dropWhile(not(FinishedGame.class::isInstance))
+        .select(FinishedGame.class)
+        .findFirst()
+        .get();
+  }
+}
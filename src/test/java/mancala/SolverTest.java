@@ -0,0 +1,171 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import mancala.player.SolutionPlayer;
+import mancala.search.AlphaBetaSearch;
+import mancala.search.Evaluation;
+import mancala.search.SearchResult;
+import mancala.search.TranspositionTable;
+import mancala.solver.SolutionStore;
+import mancala.solver.Solver;
+import mancala.solver.SolverResult;
+import mancala.tablebase.Tablebase;
+import mancala.tablebase.TablebaseGenerator;
+import mancala.tablebase.TablebaseIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SolverTest {
+  private static final Duration UNLIMITED = Duration.ofDays(1);
+
+  @TempDir Path directory;
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2})
+  void shouldMatchFullDepthSearch(final int beadsPerWell) throws IOException {
+    final PackedBoard board = Solver.createStartingBoard(beadsPerWell);
+    final int score = exactScore(board);
+
+    try (final SolutionStore store = SolutionStore.open(directory.resolve("solution.bin"), 16);
+        final Solver solver = new Solver(store, null, 2, 16)) {
+      final SolverResult result = solver.solve(board, UNLIMITED);
+
+      assertThat(result.isSolved()).isTrue();
+      assertThat(result.getLowerBound()).isEqualTo(score);
+      assertThat(store.getValue(board)).hasValue(score);
+      assertThat(store.getMove(board)).hasValue(result.getPlayerWellIndex());
+
+      final PackedBoard child = board.copy();
+      child.applyMove(result.getPlayerWellIndex());
+      assertThat(child.isGameOver() ? storeDifference(child, 1) : scoreFor(child, 1))
+          .isEqualTo(score);
+    }
+  }
+
+  @Test
+  void shouldMatchFullDepthSearchWithTablebase() throws IOException {
+    final Path tablebasePath = directory.resolve("tablebase.bin");
+    TablebaseGenerator.write(tablebasePath, 8);
+    final SplittableRandom random = new SplittableRandom(24);
+
+    try (final SolutionStore store = SolutionStore.open(directory.resolve("solution.bin"), 16);
+        final Tablebase tablebase = Tablebase.open(tablebasePath);
+        final Solver solver = new Solver(store, tablebase, 2, 16)) {
+      for (int i = 0; i < 20; i++) {
+        final PackedBoard board = Solver.createStartingBoard(3);
+        while (!board.isGameOver() && TablebaseIndex.beadsInPlayerWells(board) > 16) {
+          playRandomMove(board, random);
+        }
+        if (board.isGameOver()) {
+          continue;
+        }
+        final SolverResult result = solver.solve(board, UNLIMITED);
+
+        assertThat(result.isSolved()).isTrue();
+        assertThat(storeDifference(board, board.getCurrentPlayerNumber()) + result.getLowerBound())
+            .isEqualTo(exactScore(board));
+      }
+    }
+  }
+
+  @Test
+  void shouldResumeFromStore() throws IOException {
+    final Path path = directory.resolve("solution.bin");
+    final PackedBoard board = Solver.createStartingBoard(2);
+    final int score = exactScore(board);
+
+    try (final SolutionStore store = SolutionStore.open(path, 16)) {
+      store.store(TablebaseIndex.indexOf(board), score - 1, SolutionStore.NO_UPPER_BOUND, -1, 0);
+    }
+    try (final SolutionStore store = SolutionStore.open(path, 1);
+        final Solver solver = new Solver(store, null, 1, 16)) {
+      final SolverResult result = solver.solve(board, UNLIMITED);
+
+      assertThat(store.getCapacity()).isEqualTo(16 * (1L << 20) / (2 * Long.BYTES));
+      assertThat(result.isSolved()).isTrue();
+      assertThat(result.getLowerBound()).isEqualTo(score);
+    }
+    try (final SolutionStore store = SolutionStore.open(path, 16);
+        final Solver solver = new Solver(store, null, 1, 16)) {
+      final SolverResult result = solver.solve(board, UNLIMITED);
+
+      assertThat(result.getLowerBound()).isEqualTo(score);
+      assertThat(result.getUpperBound()).isEqualTo(score);
+      assertThat(result.getNodes()).isZero();
+    }
+  }
+
+  @Test
+  void shouldSolveWithStoreTooSmallToHoldEverything() throws IOException {
+    final PackedBoard board = Solver.createStartingBoard(2);
+
+    try (final SolutionStore store = SolutionStore.open(directory.resolve("solution.bin"), 1);
+        final Solver solver = new Solver(store, null, 2, 1)) {
+      assertThat(solver.solve(board, UNLIMITED).getLowerBound()).isEqualTo(exactScore(board));
+    }
+  }
+
+  @Test
+  void shouldPlayProvenMoves() throws IOException {
+    final Path path = directory.resolve("solution.bin");
+    final PackedBoard board = PackedBoard.createStartingBoard();
+    try (final SolutionStore store = SolutionStore.open(path, 1)) {
+      store.store(TablebaseIndex.indexOf(board), 2, SolutionStore.NO_UPPER_BOUND, 3, 0);
+      store.store(TablebaseIndex.indexOf(board), SolutionStore.NO_LOWER_BOUND, 2, -1, 0);
+    }
+
+    try (final SolutionStore store = SolutionStore.open(path)) {
+      final Player player = new SolutionPlayer(new PiratePlayer(1), store);
+
+      assertThat(store.getValue(board)).hasValue(2);
+      assertThat(player.makeMove(new Game(player, new PiratePlayer(2))).getWellIndex())
+          .isEqualTo(3);
+      assertThatThrownBy(() -> store.store(0, 0, 0, 0, 0))
+          .isInstanceOf(IllegalStateException.class);
+    } catch (final Move.IllegalMoveException exception) {
+      throw new AssertionError(exception);
+    }
+  }
+
+  @Test
+  void shouldRejectOtherFiles() throws IOException {
+    final Path path = directory.resolve("solution.bin");
+    Files.write(path, new byte[64]);
+
+    assertThatThrownBy(() -> SolutionStore.open(path)).isInstanceOf(IOException.class);
+  }
+
+  private static int exactScore(final PackedBoard board) {
+    final SearchResult result =
+        new AlphaBetaSearch(Evaluation.STORE_DIFFERENCE, new TranspositionTable(16))
+            .search(board, UNLIMITED, AlphaBetaSearch.MAX_DEPTH);
+    assertThat(result.getDepth()).isLessThan(AlphaBetaSearch.MAX_DEPTH);
+    return result.getScore();
+  }
+
+  private static int scoreFor(final PackedBoard board, final int playerNumber) {
+    final int score = exactScore(board);
+    return board.getCurrentPlayerNumber() == playerNumber ? score : -score;
+  }
+
+  private static int storeDifference(final PackedBoard board, final int playerNumber) {
+    return board.getHomeBaseBeads(playerNumber) - board.getHomeBaseBeads(3 - playerNumber);
+  }
+
+  private static void playRandomMove(final PackedBoard board, final SplittableRandom random) {
+    int move;
+    do {
+      move = random.nextInt(6);
+    } while (!board.isLegalMove(move));
+    board.applyMove(move);
+  }
+}
@@ -0,0 +1,66 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SowingTest {
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2})
+  void shouldMatchMakingMoveBeadByBead(final int playerNumber) throws Move.IllegalMoveException {
+    final Player playerOne = new Player(1);
+    final Player playerTwo = new Player(2);
+    final Player player = playerNumber == 1 ? playerOne : playerTwo;
+    final int opponentHomeBase = playerNumber == 1 ? 13 : 6;
+
+    for (int playerWellIndex = 0; playerWellIndex < 6; playerWellIndex++) {
+      final int fromIndex =
+          Board.createStartingBoard().getBoardWellIndexFor(player, playerWellIndex);
+      final int empty = Sowing.of(playerNumber, playerWellIndex, 0);
+      assertThat(Sowing.landingIndexOf(empty)).isEqualTo(fromIndex);
+      assertThat(Sowing.lapsOf(empty)).isZero();
+      assertThat(Sowing.opponentHomeBasePassesOf(empty)).isZero();
+
+      for (int beads = 1; beads <= Sowing.MAX_BEADS; beads++) {
+        final int[] wells = new int[14];
+        wells[fromIndex] = beads;
+        final Board board = new PackedBoard(wells, playerNumber).toBoard();
+        Game game =
+            new Game(
+                playerOne,
+                playerTwo,
+                board,
+                new State.MakingMove(
+                    player,
+                    new Move(board, player, playerWellIndex),
+                    beads,
+                    board.getNextBoardWellIndexFor(player, playerWellIndex)));
+        int landingIndex = -1;
+        while (game.getState() instanceof State.MakingMove) {
+          landingIndex = ((State.MakingMove) game.getState()).getToBoardWellIndex();
+          game = game.progress();
+        }
+        final int sowing = Sowing.of(playerNumber, playerWellIndex, beads);
+
+        assertThat(Sowing.landingIndexOf(sowing)).isEqualTo(landingIndex);
+        assertThat(Sowing.lapsOf(sowing))
+            .isEqualTo(game.getBoard().getWells().get(fromIndex).getNumberOfBeads());
+        assertThat(Sowing.opponentHomeBasePassesOf(sowing))
+            .isEqualTo(game.getBoard().getWells().get(opponentHomeBase).getNumberOfBeads());
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2})
+  void shouldFindNextBoardWellIndex(final int playerNumber) {
+    final Board board = Board.createStartingBoard();
+    final Player player = new Player(playerNumber);
+
+    for (int playerWellIndex = 0; playerWellIndex < 6; playerWellIndex++) {
+      assertThat(board.getNextBoardWellIndexFor(player, playerWellIndex))
+          .isEqualTo(Sowing.landingIndexOf(Sowing.of(playerNumber, playerWellIndex, 1)));
+    }
+  }
+}
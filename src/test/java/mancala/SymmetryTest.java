@@ -0,0 +1,72 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import mancala.search.AlphaBetaSearch;
+import mancala.search.Evaluation;
+import mancala.search.SearchResult;
+import mancala.search.TranspositionTable;
+import org.junit.jupiter.api.Test;
+
+class SymmetryTest {
+  @Test
+  void shouldPlayMirroredPositionsAlike() {
+    final SplittableRandom random = new SplittableRandom(11);
+    for (int game = 0; game < 200; game++) {
+      final PackedBoard board = PackedBoard.createStartingBoard();
+      PackedBoard mirrored = Symmetry.mirror(board);
+      while (!board.isGameOver()) {
+        assertThat(Symmetry.mirror(mirrored)).isEqualTo(board);
+        assertThat(mirrored.getCanonicalHash()).isEqualTo(board.getCanonicalHash());
+        assertThat(Symmetry.canonicalKey(mirrored)).isEqualTo(Symmetry.canonicalKey(board));
+        assertThat(Symmetry.isCanonical(Symmetry.canonical(mirrored))).isTrue();
+        assertThat(mirrored.getLegalMoves()).isEqualTo(board.getLegalMoves());
+        for (int i = 0; i < PackedBoard.SIZE; i++) {
+          assertThat(mirrored.getBeads(Symmetry.mirrorIndex(i))).isEqualTo(board.getBeads(i));
+          assertThat(Symmetry.canonical(board).getBeads(Symmetry.canonicalIndex(board, i)))
+              .isEqualTo(board.getBeads(i));
+        }
+
+        int move;
+        do {
+          move = random.nextInt(6);
+        } while (!board.isLegalMove(move));
+        final int flags = board.applyMove(move);
+        assertThat(mirrored.applyMove(move)).isEqualTo(flags);
+        mirrored = mirrored.copy();
+      }
+      assertThat(Symmetry.mirror(mirrored)).isEqualTo(board);
+      assertThat(mirrored.getWinningPlayerNumber())
+          .isEqualTo((3 - board.getWinningPlayerNumber()) % 3);
+    }
+  }
+
+  @Test
+  void shouldMirrorBoards() {
+    final PackedBoard board =
+        new PackedBoard(new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 0}, 1);
+
+    assertThat(Symmetry.mirror(board.toBoard())).isEqualTo(Symmetry.mirror(board).toBoard());
+    assertThat(Symmetry.mirror(board.toBoard()).getPlayerWells(new Player(2)))
+        .isEqualTo(board.toBoard().getPlayerWells(new Player(1)));
+  }
+
+  @Test
+  void shouldShareTableEntriesBetweenMirroredPositions() {
+    final PackedBoard board =
+        new PackedBoard(new int[] {3, 0, 5, 1, 0, 2, 14, 4, 0, 1, 6, 2, 0, 10}, 2);
+    final TranspositionTable table = new TranspositionTable(1);
+    final AlphaBetaSearch search = new AlphaBetaSearch(Evaluation.STORE_DIFFERENCE, table);
+
+    final SearchResult result = search.search(board, Duration.ofDays(1), 8);
+    final long missesBefore = table.getMisses();
+    final SearchResult mirroredResult =
+        search.search(Symmetry.mirror(board), Duration.ofDays(1), 8);
+
+    assertThat(mirroredResult.getPlayerWellIndex()).isEqualTo(result.getPlayerWellIndex());
+    assertThat(mirroredResult.getScore()).isEqualTo(result.getScore());
+    assertThat(table.getMisses()).isEqualTo(missesBefore);
+  }
+}
@@ -0,0 +1,82 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import mancala.search.AlphaBetaSearch;
+import mancala.search.Evaluation;
+import mancala.tablebase.Tablebase;
+import mancala.tablebase.TablebaseGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TablebaseTest {
+  private static final int MAX_BEADS = 8;
+  private static final Duration UNLIMITED = Duration.ofDays(1);
+
+  @TempDir static Path directory;
+  private static Path path;
+
+  @BeforeAll
+  static void generate() throws IOException {
+    path = directory.resolve("tablebase.bin");
+    TablebaseGenerator.write(path, MAX_BEADS);
+  }
+
+  @Test
+  void shouldMatchFullDepthSearch() throws IOException {
+    final SplittableRandom random = new SplittableRandom(8);
+    final AlphaBetaSearch search = new AlphaBetaSearch();
+
+    try (final Tablebase tablebase = Tablebase.open(path)) {
+      final AlphaBetaSearch tablebaseSearch =
+          new AlphaBetaSearch(Evaluation.STORE_DIFFERENCE, null, 0, tablebase);
+
+      for (int i = 0; i < 500; i++) {
+        final PackedBoard board = createEndgame(random);
+        if (!tablebase.covers(board)) {
+          continue;
+        }
+        final int storeDifference =
+            board.getHomeBaseBeads(board.getCurrentPlayerNumber())
+                - board.getHomeBaseBeads(3 - board.getCurrentPlayerNumber());
+        final int score = search.search(board, UNLIMITED, AlphaBetaSearch.MAX_DEPTH).getScore();
+
+        assertThat(storeDifference + tablebase.probe(board)).isEqualTo(score);
+        assertThat(tablebaseSearch.search(board, UNLIMITED, 2).getScore()).isEqualTo(score);
+
+        final PackedBoard child = board.copy();
+        child.applyMove(tablebase.getBestMove(board));
+        final int childScore =
+            child.isGameOver()
+                ? child.getHomeBaseBeads(board.getCurrentPlayerNumber())
+                    - child.getHomeBaseBeads(3 - board.getCurrentPlayerNumber())
+                : search.search(child, UNLIMITED, AlphaBetaSearch.MAX_DEPTH).getScore();
+        assertThat(
+                child.isGameOver()
+                        || child.getCurrentPlayerNumber() == board.getCurrentPlayerNumber()
+                    ? childScore
+                    : -childScore)
+            .isEqualTo(score);
+      }
+    }
+  }
+
+  private static PackedBoard createEndgame(final SplittableRandom random) {
+    final int[] wells = new int[PackedBoard.SIZE];
+    final int beads = 2 + random.nextInt(MAX_BEADS - 1);
+    wells[random.nextInt(6)]++;
+    wells[7 + random.nextInt(6)]++;
+    for (int i = 2; i < beads; i++) {
+      final int well = random.nextInt(12);
+      wells[well < 6 ? well : well + 1]++;
+    }
+    wells[PackedBoard.PLAYER_ONE_HOME_BASE] = random.nextInt(20);
+    wells[PackedBoard.PLAYER_TWO_HOME_BASE] = 48 - beads - wells[PackedBoard.PLAYER_ONE_HOME_BASE];
+    return new PackedBoard(wells, 1 + random.nextInt(2));
+  }
+}
@@ -0,0 +1,61 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import mancala.tournament.Standings;
+import mancala.tournament.Tournament;
+import org.junit.jupiter.api.Test;
+
+class TournamentTest {
+  @Test
+  void shouldPlayEveryGameWithSeatsAlternating() {
+    final List<Standings> progress = new CopyOnWriteArrayList<>();
+
+    final Standings standings =
+        new Tournament(PiratePlayer::new, BadPlayer::new, 4, 7)
+            .play(200, ForkJoinPool.commonPool(), 4, 50, progress::add);
+
+    assertThat(standings.getGamesPlayed()).isEqualTo(200);
+    assertThat(standings.getWins() + standings.getDraws() + standings.getLosses()).isEqualTo(200);
+    assertThat(standings.getWins()).isGreaterThan(standings.getLosses());
+    assertThat(standings.getAverageMargin()).isPositive();
+    assertThat(progress).hasSize(4);
+  }
+
+  @Test
+  void shouldCloseCloseablePlayersAfterEveryGame() {
+    final AtomicInteger created = new AtomicInteger();
+    final AtomicInteger closed = new AtomicInteger();
+    final IntFunction<Player> closeablePlayerFactory =
+        playerNumber -> {
+          created.incrementAndGet();
+          return new CloseablePiratePlayer(playerNumber, closed);
+        };
+
+    new Tournament(closeablePlayerFactory, BadPlayer::new, 4, 7)
+        .play(20, ForkJoinPool.commonPool(), 4, 0, standings -> {});
+
+    assertThat(created).hasValue(20);
+    assertThat(closed).hasValue(20);
+  }
+
+  private static class CloseablePiratePlayer extends PiratePlayer implements Closeable {
+    private final AtomicInteger closed;
+
+    CloseablePiratePlayer(final int playerNumber, final AtomicInteger closed) {
+      super(playerNumber);
+      this.closed = closed;
+    }
+
+    @Override
+    public void close() {
+      closed.incrementAndGet();
+    }
+  }
+}
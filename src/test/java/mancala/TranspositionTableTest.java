@@ -0,0 +1,77 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import mancala.search.TranspositionTable;
+import org.junit.jupiter.api.Test;
+
+class TranspositionTableTest {
+  @Test
+  void shouldReadBackWhatWasStored() {
+    final TranspositionTable table = new TranspositionTable(1);
+    table.store(0x1234_5678_9abc_def0L, 17, TranspositionTable.LOWER_BOUND, 4, -23);
+    table.store(42, 0, TranspositionTable.EXACT, -1, 0);
+
+    final long data = table.probe(0x1234_5678_9abc_def0L);
+    assertThat(TranspositionTable.depthOf(data)).isEqualTo(17);
+    assertThat(TranspositionTable.boundOf(data)).isEqualTo(TranspositionTable.LOWER_BOUND);
+    assertThat(TranspositionTable.moveOf(data)).isEqualTo(4);
+    assertThat(TranspositionTable.scoreOf(data)).isEqualTo(-23);
+
+    final long empty = table.probe(42);
+    assertThat(empty).isNotZero();
+    assertThat(TranspositionTable.moveOf(empty)).isEqualTo(-1);
+    assertThat(TranspositionTable.scoreOf(empty)).isZero();
+    assertThat(table.probe(43)).isZero();
+    assertThat(table.getHits()).isEqualTo(2);
+    assertThat(table.getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepDeepestEntryAndReplaceTheOther() {
+    final TranspositionTable table = new TranspositionTable(1);
+    final long buckets = table.getCapacity() / 2;
+    final long deep = 7;
+    final long shallow = deep + buckets;
+    final long shallower = deep + 2 * buckets;
+    final long deeper = deep + 3 * buckets;
+
+    table.store(deep, 8, TranspositionTable.EXACT, 0, 1);
+    table.store(shallow, 3, TranspositionTable.EXACT, 1, 2);
+    assertThat(table.probe(deep)).isNotZero();
+    assertThat(table.probe(shallow)).isNotZero();
+
+    table.store(shallower, 2, TranspositionTable.EXACT, 2, 3);
+    assertThat(table.probe(deep)).isNotZero();
+    assertThat(table.probe(shallow)).isZero();
+    assertThat(TranspositionTable.scoreOf(table.probe(shallower))).isEqualTo(3);
+
+    table.store(deep, 5, TranspositionTable.UPPER_BOUND, 0, 4);
+    assertThat(TranspositionTable.depthOf(table.probe(deep))).isEqualTo(8);
+
+    table.store(deeper, 9, TranspositionTable.EXACT, 3, 5);
+    assertThat(TranspositionTable.scoreOf(table.probe(deeper))).isEqualTo(5);
+    assertThat(TranspositionTable.scoreOf(table.probe(deep))).isEqualTo(1);
+    assertThat(table.probe(shallower)).isZero();
+  }
+
+  @Test
+  void shouldMissOnTornEntry() throws ReflectiveOperationException {
+    final TranspositionTable table = new TranspositionTable(1);
+    final TranspositionTable other = new TranspositionTable(1);
+    final long hash = 0x0f0f_0f0f_0f0f_0f0fL;
+    table.store(hash, 6, TranspositionTable.EXACT, 2, 11);
+    other.store(hash, 7, TranspositionTable.LOWER_BOUND, 5, -11);
+
+    final Field field = TranspositionTable.class.getDeclaredField("entries");
+    field.setAccessible(true);
+    final long[] entries = (long[]) field.get(table);
+    final long[] otherEntries = (long[]) field.get(other);
+    final int bucket = (int) (hash & (table.getCapacity() / 2 - 1)) * 4;
+    entries[bucket + 1] = otherEntries[bucket + 1];
+
+    assertThat(table.probe(hash)).isZero();
+    assertThat(table.getCollisions()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,91 @@
+package mancala;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import mancala.search.Evaluation;
+import mancala.search.WeightedEvaluation;
+import mancala.search.WeightedEvaluation.Feature;
+import mancala.tournament.Standings;
+import mancala.tuning.SpsaStep;
+import mancala.tuning.SpsaTuner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WeightedEvaluationTest {
+  @Test
+  void shouldScoreLikeStoreDifferenceByDefault() {
+    final SplittableRandom random = new SplittableRandom(25);
+    final PackedBoard board = PackedBoard.createStartingBoard();
+
+    while (!board.isGameOver()) {
+      assertThat(WeightedEvaluation.DEFAULT.evaluate(board))
+          .isEqualTo(Evaluation.STORE_DIFFERENCE.evaluate(board));
+      int move;
+      do {
+        move = random.nextInt(6);
+      } while (!board.isLegalMove(move));
+      board.applyMove(move);
+    }
+  }
+
+  @Test
+  void shouldCountFeaturesFromPlayerToMove() {
+    final PackedBoard board =
+        new PackedBoard(new int[] {0, 1, 0, 0, 1, 4, 10, 1, 0, 0, 6, 0, 1, 4}, 2);
+
+    assertThat(WeightedEvaluation.featuresOf(board)).containsExactly(4 - 10, 8 - 6, 2 - 7, 1, 0);
+    assertThat(new WeightedEvaluation(1, 0.5, 0.25, 1, 2).evaluate(board)).isEqualTo(-5);
+  }
+
+  @Test
+  void shouldFollowSowingRoundTheBoard() {
+    final PackedBoard board =
+        new PackedBoard(new int[] {6, 0, 0, 17, 0, 13, 0, 1, 2, 0, 0, 2, 0, 0}, 1);
+
+    assertThat(WeightedEvaluation.featuresOf(board)).containsExactly(0, 36 - 5, 4 - 0, 2 - 1, 0);
+
+    final PackedBoard extraTurn = board.copy();
+    assertThat(extraTurn.applyMove(3)).isEqualTo(PackedBoard.EXTRA_TURN);
+    final PackedBoard capture = board.copy();
+    assertThat(capture.applyMove(5)).isEqualTo(PackedBoard.CAPTURE);
+    assertThat(capture.getHomeBaseBeads(1)).isEqualTo(1 + 4);
+  }
+
+  @Test
+  void shouldRoundTripWeightsFile(@TempDir final Path directory) throws IOException {
+    final Path path = directory.resolve("weights.properties");
+    final WeightedEvaluation evaluation = new WeightedEvaluation(1, -0.25, 0.5, 0.75, 1.5);
+
+    evaluation.write(path);
+    assertThat(WeightedEvaluation.load(path)).isEqualTo(evaluation);
+
+    Files.write(path, List.of("# Only captures", "captures = 2"));
+    assertThat(WeightedEvaluation.load(path).getWeights()).containsExactly(1, 0, 2, 0, 0);
+  }
+
+  @Test
+  void shouldTuneEveryWeightButTheStore() {
+    final List<SpsaStep> steps = new CopyOnWriteArrayList<>();
+    final SpsaTuner tuner = new SpsaTuner(2, 16, 4, 0.05, 0.25, 7);
+
+    final WeightedEvaluation tuned =
+        tuner.tune(WeightedEvaluation.DEFAULT, 5, ForkJoinPool.commonPool(), 2, steps::add);
+    final Standings standings =
+        tuner.match(tuned, WeightedEvaluation.DEFAULT, 20, 3, ForkJoinPool.commonPool(), 2);
+
+    assertThat(steps).hasSize(5);
+    assertThat(steps.get(4).getEvaluation()).isEqualTo(tuned);
+    assertThat(steps).allMatch(step -> step.getStandings().getGamesPlayed() == 16);
+    assertThat(tuned.getWeight(Feature.STORE)).isEqualTo(1);
+    assertThat(tuned).isNotEqualTo(WeightedEvaluation.DEFAULT);
+    assertThat(standings.getGamesPlayed()).isEqualTo(20);
+    assertThat(standings.getElo()).isBetween(-1200.0, 1200.0);
+  }
+}